@@ -8,11 +8,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.http.client.HttpClient;
 
 import java.util.List;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class AppBeans {
@@ -27,18 +29,19 @@ public class AppBeans {
 
     @Bean
     public WebClient getWebClient() {
-        int maxSizeInBytes = 16 * 1024 * 1024;
-
-        var strategies = ExchangeStrategies.builder()
-                .codecs(c -> c.defaultCodecs().maxInMemorySize(maxSizeInBytes))
-                .build();
-
         return WebClient.builder()
-                .exchangeStrategies(strategies)
                 .clientConnector(new ReactorClientHttpConnector(HttpClient.create()))
                 .build();
     }
 
+    @Bean
+    public Scheduler blockingTaskScheduler(@Value("${spring.threads.virtual.enabled:false}")
+                                           boolean virtualThreadsEnabled) {
+        return virtualThreadsEnabled
+                ? Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "virtual-blocking")
+                : Schedulers.boundedElastic();
+    }
+
     @Bean
     public OpenAPI apiDocConfig(ServletContext servletContext) {
         var server = new Server().url(servletContext.getContextPath());
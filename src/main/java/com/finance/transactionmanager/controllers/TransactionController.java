@@ -1,10 +1,19 @@
 package com.finance.transactionmanager.controllers;
 
 import com.finance.transactionmanager.models.generic.CollectionContentWrapper;
+import com.finance.transactionmanager.models.request.BatchExchangeRequestModel;
+import com.finance.transactionmanager.models.request.BulkTransactionRequestModel;
 import com.finance.transactionmanager.models.request.TransactionRequestModel;
+import com.finance.transactionmanager.models.response.BatchExchangeResponseModel;
+import com.finance.transactionmanager.models.response.BulkTransactionResponseModel;
 import com.finance.transactionmanager.models.response.ExchangeResponseModel;
+import com.finance.transactionmanager.models.response.IngestionStatusResponseModel;
+import com.finance.transactionmanager.models.response.MultiExchangeResponseModel;
 import com.finance.transactionmanager.models.response.TransactionResponseModel;
 import com.finance.transactionmanager.services.TransactionService;
+import com.finance.transactionmanager.services.export.ExportFormat;
+import com.finance.transactionmanager.services.export.TransactionExporter;
+import com.finance.transactionmanager.services.pagination.CountMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,10 +22,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -26,6 +44,7 @@ import java.util.UUID;
 @Tag(name = "Transactions Controller", description = "Endpoints for managing financial transactions.")
 public class TransactionController {
     private final TransactionService transactionService;
+    private final TransactionExporter transactionExporter;
 
     @Operation(
             summary = "Refresh Cache",
@@ -45,10 +64,15 @@ public class TransactionController {
 
     @Operation(
             summary = "Retrieve All Transactions",
-            description = "Fetches a list of all transactions stored in the database."
+            description = "Fetches a list of all transactions stored in the database, ordered by transaction " +
+                    "date. Passing the 'nextCursor' of a previous response continues the listing after its last " +
+                    "item at constant cost, while 'page' falls back to offset paging. 'countMode' controls how " +
+                    "offset pages report totals: EXACT counts every row, APPROXIMATE reads table statistics and " +
+                    "NONE only reports whether a next page exists."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successful Operation."),
+            @ApiResponse(responseCode = "400", description = "Bad Request."),
             @ApiResponse(responseCode = "500", description = "Internal Server Error.")
     })
     @GetMapping("/all")
@@ -62,18 +86,86 @@ public class TransactionController {
             @Parameter(name = "size",
                     description = "Page size starting at 1.",
                     example = "1")
-            int size) {
-        return new ResponseEntity<>(transactionService.getAll(page, size), HttpStatus.OK);
+            int size,
+            @RequestParam(required = false)
+            @Parameter(name = "cursor",
+                    description = "Continuation token returned as 'nextCursor' by the previous page.")
+            String cursor,
+            @RequestParam(defaultValue = "EXACT", required = false)
+            @Parameter(name = "countMode",
+                    description = "How totals are computed: EXACT, APPROXIMATE or NONE.",
+                    example = "NONE")
+            CountMode countMode) {
+        var result = cursor != null
+                ? transactionService.getAllAfter(cursor, size)
+                : transactionService.getAll(page, size, countMode);
+
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Export Transactions",
+            description = "Streams every transaction, optionally limited to an inclusive date range, as NDJSON or " +
+                    "CSV ordered by transaction date. Rows are read through a database cursor and written as they " +
+                    "arrive, so the export size is not bounded by memory. The body can optionally be gzip encoded."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation."),
+            @ApiResponse(responseCode = "400", description = "Bad Request."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "NDJSON", required = false)
+            @Parameter(name = "format",
+                    description = "Export format: NDJSON or CSV.",
+                    example = "CSV")
+            ExportFormat format,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(name = "from",
+                    description = "First transaction date included in the export.",
+                    example = "2024-01-01")
+            LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(name = "to",
+                    description = "Last transaction date included in the export.",
+                    example = "2024-12-31")
+            LocalDate to,
+            @RequestParam(defaultValue = "false", required = false)
+            @Parameter(name = "gzip",
+                    description = "Whether the body should be gzip encoded.",
+                    example = "true")
+            boolean gzip,
+            NativeWebRequest webRequest) {
+        var body = transactionExporter.export(format, from, to, gzip);
+
+        WebAsyncUtils.getAsyncManager(webRequest)
+                .getAsyncWebRequest()
+                .setTimeout(transactionExporter.getRequestTimeoutInMillis());
+
+        var headers = new HttpHeaders();
+        headers.setContentType(format.getMediaType());
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("transactions." + format.getFileExtension())
+                .build());
+        if (gzip) headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
     }
 
     @Operation(
             summary = "Create a New Transaction",
             description = "Creates a new transaction with a specified value and an " +
-                    "optional description (up to 50 characters)."
+                    "optional description (up to 50 characters). When asynchronous ingestion is enabled, the " +
+                    "transaction is queued, answered with 202 and its id, and written shortly after."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Created."),
+            @ApiResponse(responseCode = "202", description = "Accepted."),
             @ApiResponse(responseCode = "400", description = "Bad Request."),
+            @ApiResponse(responseCode = "503", description = "Service Unavailable."),
             @ApiResponse(responseCode = "500", description = "Internal Server Error.")
     })
     @PostMapping("/create")
@@ -83,7 +175,49 @@ public class TransactionController {
                                                                            "transaction.",
                                                                    example = "e7c9f1cd-da4e-4647-9830-ba4450d6f9a1")
                                                            @Valid TransactionRequestModel request) {
-        return new ResponseEntity<>(transactionService.create(request), HttpStatus.CREATED);
+        var status = transactionService.isAsyncIngestion() ? HttpStatus.ACCEPTED : HttpStatus.CREATED;
+
+        return new ResponseEntity<>(transactionService.create(request), status);
+    }
+
+    @Operation(
+            summary = "Check Transaction Ingestion Status",
+            description = "Reports whether a created transaction is still queued, was written to the database or " +
+                    "could not be written."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation."),
+            @ApiResponse(responseCode = "404", description = "Not Found."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @GetMapping("/ingestion-status")
+    public ResponseEntity<IngestionStatusResponseModel> getIngestionStatus(@RequestParam
+                                                                           @Parameter(name = "transactionId",
+                                                                                   description = "Unique " +
+                                                                                           "identifier for the " +
+                                                                                           "transaction.",
+                                                                                   example = "e7c9f1cd-da4e-4647-" +
+                                                                                           "9830-ba4450d6f9a1")
+                                                                           @NotNull
+                                                                           UUID transactionId) {
+        return new ResponseEntity<>(transactionService.getIngestionStatus(transactionId), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Create Transactions in Bulk",
+            description = "Creates up to 10000 transactions in a single call. Rows are inserted in JDBC batches " +
+                    "within one database transaction, so either every transaction is created or none is. The " +
+                    "generated ids are returned in submission order."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Created."),
+            @ApiResponse(responseCode = "400", description = "Bad Request."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @PostMapping("/create/bulk")
+    public ResponseEntity<BulkTransactionResponseModel> createAll(@RequestBody
+                                                                  @Valid BulkTransactionRequestModel request) {
+        return new ResponseEntity<>(transactionService.createAll(request), HttpStatus.CREATED);
     }
 
     @Operation(
@@ -113,4 +247,85 @@ public class TransactionController {
                                                           String targetCurrency) {
         return new ResponseEntity<>(transactionService.exchange(transactionId, targetCurrency), HttpStatus.OK);
     }
+
+    @Operation(
+            summary = "Convert Currency for Existing Transaction (Non-Blocking)",
+            description = "Converts an existing transaction's amount to a user-specified target currency without " +
+                    "holding a request thread while exchange data is retrieved from the fiscal data source."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation."),
+            @ApiResponse(responseCode = "400", description = "Bad Request."),
+            @ApiResponse(responseCode = "404", description = "Not Found."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @GetMapping("/exchange/reactive")
+    public Mono<ResponseEntity<ExchangeResponseModel>> exchangeReactive(@RequestParam
+                                                                        @Parameter(name = "transactionId",
+                                                                                description = "Unique identifier " +
+                                                                                        "for the transaction.",
+                                                                                example = "e7c9f1cd-da4e-4647-" +
+                                                                                        "9830-ba4450d6f9a1")
+                                                                        @NotNull
+                                                                        UUID transactionId,
+                                                                        @RequestParam
+                                                                        @Parameter(name = "targetCurrency",
+                                                                                description = "The currency to " +
+                                                                                        "convert to, formatted as " +
+                                                                                        "'Country-Currency'.",
+                                                                                example = "Brazil-Real")
+                                                                        @NotNull
+                                                                        String targetCurrency) {
+        return transactionService.exchangeReactive(transactionId, targetCurrency)
+                .map(response -> new ResponseEntity<>(response, HttpStatus.OK));
+    }
+
+    @Operation(
+            summary = "Convert Currency for Existing Transaction into Several Currencies",
+            description = "Converts an existing transaction's amount to up to " +
+                    TransactionService.MAX_TARGET_CURRENCIES + " target currencies in a single call, resolving " +
+                    "every rate against the same exchange data."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation."),
+            @ApiResponse(responseCode = "400", description = "Bad Request."),
+            @ApiResponse(responseCode = "404", description = "Not Found."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @GetMapping("/exchange/multi")
+    public ResponseEntity<MultiExchangeResponseModel> exchangeMany(@RequestParam
+                                                                   @Parameter(name = "transactionId",
+                                                                           description = "Unique identifier for " +
+                                                                                   "the transaction.",
+                                                                           example = "e7c9f1cd-da4e-4647-9830-" +
+                                                                                   "ba4450d6f9a1")
+                                                                   @NotNull
+                                                                   UUID transactionId,
+                                                                   @RequestParam
+                                                                   @Parameter(name = "targetCurrencies",
+                                                                           description = "The currencies to " +
+                                                                                   "convert to, formatted as " +
+                                                                                   "'Country-Currency'.",
+                                                                           example = "Brazil-Real,Canada-Dollar")
+                                                                   @NotNull
+                                                                   List<String> targetCurrencies) {
+        return new ResponseEntity<>(transactionService.exchangeMany(transactionId, targetCurrencies),
+                HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Convert Currency for Several Existing Transactions",
+            description = "Converts up to 100 existing transactions to a user-specified target currency in a " +
+                    "single call. Every transaction gets its own result, so a failing item does not fail the batch."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation."),
+            @ApiResponse(responseCode = "400", description = "Bad Request."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @PostMapping("/exchange/batch")
+    public ResponseEntity<BatchExchangeResponseModel> exchangeBatch(@RequestBody
+                                                                    @Valid BatchExchangeRequestModel request) {
+        return new ResponseEntity<>(transactionService.exchangeBatch(request), HttpStatus.OK);
+    }
 }
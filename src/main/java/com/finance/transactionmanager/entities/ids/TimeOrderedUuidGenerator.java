@@ -0,0 +1,54 @@
+package com.finance.transactionmanager.entities.ids;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_IETF = 0x8000000000000000L;
+    private static final AtomicLong LAST_STATE = new AtomicLong();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    public static UUID nextUuid() {
+        return nextUuid(Clock.systemUTC());
+    }
+
+    static UUID nextUuid(Clock clock) {
+        var candidate = clock.millis() << COUNTER_BITS;
+        var state = LAST_STATE.updateAndGet(previous -> candidate > previous ? candidate : previous + 1);
+
+        var mostSignificantBits = (state >>> COUNTER_BITS) << 16 | VERSION_7 | (state & COUNTER_MASK);
+        var leastSignificantBits = (RANDOM.nextLong() & VARIANT_MASK) | VARIANT_IETF;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session,
+                           Object owner,
+                           Object currentValue,
+                           EventType eventType) {
+        return currentValue != null ? currentValue : nextUuid();
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
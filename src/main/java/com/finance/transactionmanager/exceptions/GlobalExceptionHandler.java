@@ -3,6 +3,7 @@ package com.finance.transactionmanager.exceptions;
 import com.finance.transactionmanager.exceptions.custom.BadRequestException;
 import com.finance.transactionmanager.exceptions.custom.InternalServerErrorException;
 import com.finance.transactionmanager.exceptions.custom.NotFoundException;
+import com.finance.transactionmanager.exceptions.custom.ServiceUnavailableException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.log4j.Log4j2;
 import org.hibernate.PropertyValueException;
@@ -34,6 +35,13 @@ public class GlobalExceptionHandler {
         return getStandardErrorResponseEntity(HttpStatus.NOT_FOUND, e, request);
     }
 
+    @ExceptionHandler({
+            ServiceUnavailableException.class
+    })
+    public ResponseEntity<StandardError> handleServiceUnavailable(Throwable e, HttpServletRequest request) {
+        return getStandardErrorResponseEntity(HttpStatus.SERVICE_UNAVAILABLE, e, request);
+    }
+
     @ExceptionHandler({
             BadRequestException.class,
             PropertyValueException.class,
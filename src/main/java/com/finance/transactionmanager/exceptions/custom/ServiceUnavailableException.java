@@ -0,0 +1,7 @@
+package com.finance.transactionmanager.exceptions.custom;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
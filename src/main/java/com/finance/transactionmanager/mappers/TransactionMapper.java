@@ -38,6 +38,14 @@ public class TransactionMapper {
                 .build();
     }
 
+    public TransactionResponseModel withDefaultCurrency(TransactionResponseModel row) {
+        if (row == null) throw new BadRequestException(NULL_MODEL_MESSAGE);
+
+        row.setPurchaseCurrency(defaultCurrency);
+
+        return row;
+    }
+
     public ExchangeResponseModel fromEntityToExchangeResponseModel(TransactionEntity entity) {
         if (entity == null) throw new BadRequestException(NULL_ENTITY_MESSAGE);
 
@@ -0,0 +1,19 @@
+package com.finance.transactionmanager.metrics;
+
+import com.finance.transactionmanager.services.cache.ExchangeResultCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class ExchangeResultCacheMetrics implements MeterBinder {
+    private final ExchangeResultCache exchangeResultCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, exchangeResultCache.getNativeCache(), "exchange-results");
+    }
+}
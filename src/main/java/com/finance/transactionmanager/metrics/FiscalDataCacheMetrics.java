@@ -0,0 +1,33 @@
+package com.finance.transactionmanager.metrics;
+
+import com.finance.transactionmanager.rest.gateways.FiscalDataGateway;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class FiscalDataCacheMetrics implements MeterBinder {
+    private final FiscalDataGateway fiscalDataGateway;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("fiscal.cache.generation", fiscalDataGateway,
+                        gateway -> gateway.getCurrentSnapshot().getGeneration())
+                .description("Generation number of the published exchange rate snapshot.")
+                .register(registry);
+
+        Gauge.builder("fiscal.cache.age", fiscalDataGateway,
+                        gateway -> gateway.getCurrentSnapshot().getAge().toMillis() / 1000.0)
+                .description("Time elapsed since the exchange rate snapshot was published.")
+                .baseUnit("seconds")
+                .register(registry);
+
+        Gauge.builder("fiscal.cache.entries", fiscalDataGateway,
+                        gateway -> gateway.getCurrentSnapshot().size())
+                .description("Number of exchange rates held by the published snapshot.")
+                .register(registry);
+    }
+}
@@ -0,0 +1,22 @@
+package com.finance.transactionmanager.metrics;
+
+import com.finance.transactionmanager.services.ingestion.TransactionIngestionQueue;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class TransactionIngestionQueueMetrics implements MeterBinder {
+    private final TransactionIngestionQueue transactionIngestionQueue;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("transaction.ingestion.queue.pending", transactionIngestionQueue,
+                        TransactionIngestionQueue::getPendingCount)
+                .description("Number of accepted transactions waiting to be written by the ingestion queue.")
+                .register(registry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.finance.transactionmanager.metrics;
+
+import com.finance.transactionmanager.services.cache.TransactionSnapshotCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class TransactionSnapshotCacheMetrics implements MeterBinder {
+    private final TransactionSnapshotCache transactionSnapshotCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, transactionSnapshotCache.getNativeCache(), "transactions");
+    }
+}
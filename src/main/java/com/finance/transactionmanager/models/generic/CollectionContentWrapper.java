@@ -1,5 +1,6 @@
 package com.finance.transactionmanager.models.generic;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,11 +11,22 @@ import java.util.List;
 @Data
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(name = "Content")
 public class CollectionContentWrapper<T> {
     private List<T> data;
-    private int page;
-    private int totalPages;
+    private Integer page;
+    private Integer totalPages;
     private int size;
     private Long totalElements;
+    @Schema(description = "Whether totals come from table statistics instead of an exact count.")
+    private Boolean totalsEstimated;
+    private Boolean hasNext;
+    @Schema(description = "Opaque token that continues the listing after the last returned item, absent on the " +
+            "last page.")
+    private String nextCursor;
+
+    public CollectionContentWrapper(List<T> data, int page, int totalPages, int size, Long totalElements) {
+        this(data, page, totalPages, size, totalElements, null, null, null);
+    }
 }
@@ -0,0 +1,28 @@
+package com.finance.transactionmanager.models.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(name = "Batch Exchange Request")
+public class BatchExchangeRequestModel {
+    @NotEmpty(message = "At least one transaction id must be provided.")
+    @Size(max = 100, message = "A batch cannot contain more than 100 transaction ids.")
+    private List<@NotNull(message = "Transaction ids cannot be null.") UUID> transactionIds;
+
+    @NotBlank(message = "Target currency must be provided.")
+    private String targetCurrency;
+}
@@ -0,0 +1,24 @@
+package com.finance.transactionmanager.models.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(name = "Bulk Transaction Request")
+public class BulkTransactionRequestModel {
+    @NotEmpty(message = "At least one transaction must be provided.")
+    @Size(max = 10000, message = "A bulk request cannot contain more than 10000 transactions.")
+    private List<@NotNull(message = "Transactions cannot be null.") @Valid TransactionRequestModel> transactions;
+}
@@ -0,0 +1,23 @@
+package com.finance.transactionmanager.models.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "Batch Exchange Item Response")
+public class BatchExchangeItemResponseModel {
+    private UUID transactionId;
+    private Integer status;
+    private ExchangeResponseModel result;
+    private String error;
+}
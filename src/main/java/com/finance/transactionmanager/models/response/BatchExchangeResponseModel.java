@@ -0,0 +1,21 @@
+package com.finance.transactionmanager.models.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(name = "Batch Exchange Response")
+public class BatchExchangeResponseModel {
+    private String targetCurrency;
+    private int succeeded;
+    private int failed;
+    private List<BatchExchangeItemResponseModel> results;
+}
@@ -0,0 +1,21 @@
+package com.finance.transactionmanager.models.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(name = "Bulk Transaction Response")
+public class BulkTransactionResponseModel {
+    private int created;
+    @Schema(description = "Generated ids, in the same order as the submitted transactions.")
+    private List<UUID> ids;
+}
@@ -20,4 +20,7 @@ public class ExchangeDetailsResponseModel {
     private LocalDate exchangeRateRecordDate;
     private BigDecimal exchangeRate;
     private BigDecimal convertedAmount;
+    @Schema(description = "True when the rate was served from the last known rates while the fiscal data " +
+            "source is unavailable.")
+    private boolean stale;
 }
@@ -0,0 +1,7 @@
+package com.finance.transactionmanager.models.response;
+
+public enum IngestionStatus {
+    PENDING,
+    PERSISTED,
+    FAILED
+}
@@ -0,0 +1,19 @@
+package com.finance.transactionmanager.models.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(name = "Ingestion Status Response")
+public class IngestionStatusResponseModel {
+    private UUID transactionId;
+    private IngestionStatus status;
+}
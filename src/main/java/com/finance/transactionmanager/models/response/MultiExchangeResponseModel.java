@@ -0,0 +1,21 @@
+package com.finance.transactionmanager.models.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.Map;
+
+@EqualsAndHashCode(callSuper = true)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@Schema(name = "Multi Exchange Response")
+public class MultiExchangeResponseModel extends TransactionResponseModel {
+    @Schema(description = "Exchange details keyed by the requested target currency.")
+    private Map<String, ExchangeDetailsResponseModel> exchangeDetails;
+}
@@ -30,4 +30,9 @@ public class TransactionResponseModel {
     private LocalDateTime transactionDate;
     private String purchaseCurrency;
     private BigDecimal purchaseAmount;
+
+    public TransactionResponseModel(UUID id, String description, LocalDateTime transactionDate,
+                                    BigDecimal purchaseAmount) {
+        this(id, description, transactionDate, null, purchaseAmount);
+    }
 }
@@ -0,0 +1,6 @@
+package com.finance.transactionmanager.repositories;
+
+public enum CommitDurability {
+    STRICT,
+    RELAXED
+}
@@ -0,0 +1,75 @@
+package com.finance.transactionmanager.repositories;
+
+import com.finance.transactionmanager.entities.TransactionEntity;
+import jakarta.persistence.EntityManager;
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@Log4j2
+public class TransactionBatchWriter {
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TransactionBatchWriter(EntityManager entityManager,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${system.persistence.insert-batch-size}") int batchSize) {
+        if (batchSize < 1) throw new IllegalArgumentException("Insert batch size must be positive.");
+
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public List<UUID> insertAll(List<TransactionEntity> entities) {
+        return insert(entities, CommitDurability.STRICT, Level.INFO);
+    }
+
+    public List<UUID> insertAll(List<TransactionEntity> entities, CommitDurability durability) {
+        return insert(entities, durability, Level.DEBUG);
+    }
+
+    private List<UUID> insert(List<TransactionEntity> entities, CommitDurability durability, Level logLevel) {
+        if (entities.isEmpty()) return List.of();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (durability == CommitDurability.RELAXED) {
+                entityManager.createNativeQuery("SET LOCAL synchronous_commit TO OFF").executeUpdate();
+            }
+
+            persistInBatches(entities);
+        });
+
+        var ids = entities.stream()
+                .map(TransactionEntity::getId)
+                .toList();
+
+        log.log(logLevel, "[{}] Inserted {} transactions in batches of {}.",
+                this.getClass().getSimpleName(), ids.size(), batchSize);
+
+        return ids;
+    }
+
+    private void persistInBatches(List<TransactionEntity> entities) {
+        for (int index = 0; index < entities.size(); index++) {
+            entityManager.persist(entities.get(index));
+
+            if ((index + 1) % batchSize == 0) flushBatch();
+        }
+
+        flushBatch();
+    }
+
+    private void flushBatch() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -1,9 +1,82 @@
 package com.finance.transactionmanager.repositories;
 
 import com.finance.transactionmanager.entities.TransactionEntity;
+import com.finance.transactionmanager.models.response.TransactionResponseModel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface TransactionRepository extends JpaRepository<TransactionEntity, UUID> {
+    String SELECT_TRANSACTION_ROWS = "SELECT new com.finance.transactionmanager.models.response." +
+            "TransactionResponseModel(t.id, t.description, t.transactionDate, t.purchaseAmount) " +
+            "FROM TransactionEntity t";
+    String KEYSET_ORDER = " ORDER BY t.transactionDate, t.id";
+    String SELECT_EXPORT_ROWS = "SELECT t FROM TransactionEntity t";
+    String EXPORT_FETCH_SIZE = "1000";
+
+    @Query(value = SELECT_TRANSACTION_ROWS, countQuery = "SELECT count(t) FROM TransactionEntity t")
+    Page<TransactionResponseModel> findAllRows(Pageable pageable);
+
+    @Query(SELECT_TRANSACTION_ROWS)
+    Slice<TransactionResponseModel> findRowSlice(Pageable pageable);
+
+    @Query(SELECT_TRANSACTION_ROWS + KEYSET_ORDER)
+    List<TransactionResponseModel> findFirstRows(Limit limit);
+
+    @Query(SELECT_TRANSACTION_ROWS + " WHERE (t.transactionDate, t.id) > (:transactionDate, :id)" + KEYSET_ORDER)
+    List<TransactionResponseModel> findRowsAfter(@Param("transactionDate") LocalDateTime transactionDate,
+                                                 @Param("id") UUID id,
+                                                 Limit limit);
+
+    @Query(value = "SELECT reltuples::bigint FROM pg_class WHERE oid = 'transactions'::regclass", nativeQuery = true)
+    Long estimateCount();
+
+    default Stream<TransactionEntity> streamForExport(LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) return streamAllForExport();
+        if (to == null) return streamForExportFrom(from);
+        if (from == null) return streamForExportBefore(to);
+
+        return streamForExportBetween(from, to);
+    }
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_EXPORT_ROWS + KEYSET_ORDER)
+    Stream<TransactionEntity> streamAllForExport();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_EXPORT_ROWS + " WHERE t.transactionDate >= :from" + KEYSET_ORDER)
+    Stream<TransactionEntity> streamForExportFrom(@Param("from") LocalDateTime from);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_EXPORT_ROWS + " WHERE t.transactionDate < :to" + KEYSET_ORDER)
+    Stream<TransactionEntity> streamForExportBefore(@Param("to") LocalDateTime to);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_EXPORT_ROWS + " WHERE t.transactionDate >= :from AND t.transactionDate < :to" + KEYSET_ORDER)
+    Stream<TransactionEntity> streamForExportBetween(@Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
 }
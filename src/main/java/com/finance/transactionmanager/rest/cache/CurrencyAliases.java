@@ -0,0 +1,47 @@
+package com.finance.transactionmanager.rest.cache;
+
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+final class CurrencyAliases {
+    private static final Map<String, Currency> CURRENCIES_BY_COUNTRY = loadCurrenciesByCountry();
+
+    private CurrencyAliases() {
+    }
+
+    static Optional<String> findIsoCode(String country, String currencyLabel) {
+        if (country == null || currencyLabel == null) return Optional.empty();
+
+        var currency = CURRENCIES_BY_COUNTRY.get(country.trim().toLowerCase(Locale.ROOT));
+
+        if (currency == null) return Optional.empty();
+
+        var currencyName = currency.getDisplayName(Locale.ENGLISH).toLowerCase(Locale.ROOT);
+
+        return currencyName.contains(currencyLabel.trim().toLowerCase(Locale.ROOT))
+                ? Optional.of(currency.getCurrencyCode().toLowerCase(Locale.ROOT))
+                : Optional.empty();
+    }
+
+    private static Map<String, Currency> loadCurrenciesByCountry() {
+        var currencies = new HashMap<String, Currency>();
+
+        for (var countryCode : Locale.getISOCountries()) {
+            var locale = Locale.of("", countryCode);
+
+            try {
+                var currency = Currency.getInstance(locale);
+
+                if (currency != null) {
+                    currencies.put(locale.getDisplayCountry(Locale.ENGLISH).toLowerCase(Locale.ROOT), currency);
+                }
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+
+        return Map.copyOf(currencies);
+    }
+}
@@ -0,0 +1,265 @@
+package com.finance.transactionmanager.rest.cache;
+
+import com.finance.transactionmanager.rest.response.ExchangeDataModel;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+
+public final class ExchangeRateSnapshot {
+    private static final ExchangeRateSnapshot EMPTY =
+            new ExchangeRateSnapshot(0, Instant.now(), new Labels[0], List.of(), Map.of(), 0, null);
+
+    private final long generation;
+    private final Instant createdAt;
+    private final Labels[] labels;
+    private final List<CurrencyRates> currencies;
+    private final Map<String, CurrencyRates> currencyDictionary;
+    private final int size;
+    private final LocalDate latestRecordDate;
+
+    private ExchangeRateSnapshot(long generation,
+                                 Instant createdAt,
+                                 Labels[] labels,
+                                 List<CurrencyRates> currencies,
+                                 Map<String, CurrencyRates> currencyDictionary,
+                                 int size,
+                                 LocalDate latestRecordDate) {
+        this.generation = generation;
+        this.createdAt = createdAt;
+        this.labels = labels;
+        this.currencies = currencies;
+        this.currencyDictionary = currencyDictionary;
+        this.size = size;
+        this.latestRecordDate = latestRecordDate;
+    }
+
+    public static ExchangeRateSnapshot empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static String toCurrencyKey(String currency) {
+        return currency.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public Builder toBuilder() {
+        var builder = new Builder();
+
+        currencies.forEach(rates -> {
+            for (int i = 0; i < rates.epochDays().length; i++) {
+                builder.add(rates.key(),
+                        rates.epochDays()[i],
+                        builder.intern(labels[rates.labelIds()[i]]),
+                        rates.unscaledRates()[i],
+                        rates.scales()[i]);
+            }
+        });
+
+        return builder;
+    }
+
+    public void forEach(Consumer<ExchangeDataModel> action) {
+        currencies.forEach(rates -> {
+            for (int i = 0; i < rates.epochDays().length; i++) {
+                action.accept(toExchangeDataModel(rates, i));
+            }
+        });
+    }
+
+    public Optional<String> resolveCurrency(String currency) {
+        if (currency == null) return Optional.empty();
+
+        return Optional.ofNullable(currencyDictionary.get(toCurrencyKey(currency))).map(CurrencyRates::description);
+    }
+
+    public Optional<ExchangeDataModel> findLatest(String currency, LocalDate date, LocalDate windowStart) {
+        var rates = currencyDictionary.get(toCurrencyKey(currency));
+
+        if (rates == null) return Optional.empty();
+
+        var position = rates.floor((int) date.toEpochDay());
+
+        if (position < 0 || rates.epochDays()[position] <= windowStart.toEpochDay()) return Optional.empty();
+
+        return Optional.of(toExchangeDataModel(rates, position));
+    }
+
+    public Optional<LocalDate> getLatestRecordDate() {
+        return Optional.ofNullable(latestRecordDate);
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Duration getAge() {
+        return Duration.between(createdAt, Instant.now());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private ExchangeDataModel toExchangeDataModel(CurrencyRates rates, int position) {
+        var label = labels[rates.labelIds()[position]];
+
+        return ExchangeDataModel.builder()
+                .countryCurrencyDescription(label.description())
+                .originatingCountry(label.country())
+                .currencyLabel(label.currency())
+                .recordDate(LocalDate.ofEpochDay(rates.epochDays()[position]))
+                .exchangeRate(BigDecimal.valueOf(rates.unscaledRates()[position], rates.scales()[position]))
+                .build();
+    }
+
+    private record Labels(String description, String country, String currency) {
+    }
+
+    private record Rate(int labelId, long unscaledRate, byte scale) {
+    }
+
+    private record CurrencyRates(String key,
+                                 String description,
+                                 int[] epochDays,
+                                 int[] labelIds,
+                                 long[] unscaledRates,
+                                 byte[] scales) {
+        private int floor(int epochDay) {
+            var position = Arrays.binarySearch(epochDays, epochDay);
+
+            return position >= 0 ? position : -position - 2;
+        }
+    }
+
+    public static final class Builder {
+        private final Map<Labels, Integer> labelIds = new HashMap<>();
+        private final List<Labels> labels = new ArrayList<>();
+        private final Map<String, NavigableMap<Integer, Rate>> ratesByCurrency = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder addAll(Collection<ExchangeDataModel> data) {
+            data.forEach(this::add);
+
+            return this;
+        }
+
+        public Builder add(ExchangeDataModel item) {
+            if (item.getCountryCurrencyDescription() == null
+                    || item.getRecordDate() == null
+                    || item.getExchangeRate() == null) return this;
+
+            var rate = item.getExchangeRate();
+
+            if (!isCompactable(rate)) return this;
+
+            return add(toCurrencyKey(item.getCountryCurrencyDescription()),
+                    (int) item.getRecordDate().toEpochDay(),
+                    intern(new Labels(item.getCountryCurrencyDescription(),
+                            item.getOriginatingCountry(),
+                            item.getCurrencyLabel())),
+                    rate.unscaledValue().longValue(),
+                    (byte) rate.scale());
+        }
+
+        private Builder add(String currencyKey, int epochDay, int labelId, long unscaledRate, byte scale) {
+            ratesByCurrency
+                    .computeIfAbsent(currencyKey, key -> new TreeMap<>())
+                    .put(epochDay, new Rate(labelId, unscaledRate, scale));
+
+            return this;
+        }
+
+        private Map<String, CurrencyRates> buildCurrencyDictionary(List<CurrencyRates> currencies) {
+            var dictionary = new HashMap<String, CurrencyRates>(currencies.size() * 4);
+            var isoCodeCandidates = new HashMap<String, List<CurrencyRates>>();
+
+            for (var rates : currencies) {
+                dictionary.put(rates.key(), rates);
+
+                var label = labels.get(rates.labelIds()[rates.labelIds().length - 1]);
+
+                CurrencyAliases.findIsoCode(label.country(), label.currency())
+                        .ifPresent(isoCode -> isoCodeCandidates
+                                .computeIfAbsent(isoCode, key -> new ArrayList<>())
+                                .add(rates));
+            }
+
+            isoCodeCandidates.forEach((isoCode, candidates) -> {
+                if (candidates.size() == 1) dictionary.putIfAbsent(isoCode, candidates.getFirst());
+            });
+
+            return Collections.unmodifiableMap(dictionary);
+        }
+
+        private static boolean isCompactable(BigDecimal rate) {
+            return rate.scale() >= Byte.MIN_VALUE
+                    && rate.scale() <= Byte.MAX_VALUE
+                    && rate.unscaledValue().bitLength() < Long.SIZE;
+        }
+
+        private int intern(Labels label) {
+            return labelIds.computeIfAbsent(label, key -> {
+                labels.add(key);
+                return labels.size() - 1;
+            });
+        }
+
+        public ExchangeRateSnapshot build(long generation) {
+            return build(generation, Instant.now());
+        }
+
+        public ExchangeRateSnapshot build(long generation, Instant createdAt) {
+            var currencies = new ArrayList<CurrencyRates>(ratesByCurrency.size());
+            int size = 0;
+            int latestEpochDay = Integer.MIN_VALUE;
+
+            for (var currency : ratesByCurrency.entrySet()) {
+                var rates = currency.getValue();
+                var compactedRates = new CurrencyRates(currency.getKey(),
+                        labels.get(rates.lastEntry().getValue().labelId()).description(),
+                        new int[rates.size()],
+                        new int[rates.size()],
+                        new long[rates.size()],
+                        new byte[rates.size()]);
+                int position = 0;
+
+                for (var rate : rates.entrySet()) {
+                    compactedRates.epochDays()[position] = rate.getKey();
+                    compactedRates.labelIds()[position] = rate.getValue().labelId();
+                    compactedRates.unscaledRates()[position] = rate.getValue().unscaledRate();
+                    compactedRates.scales()[position] = rate.getValue().scale();
+                    position++;
+                }
+
+                currencies.add(compactedRates);
+                size += rates.size();
+                latestEpochDay = Math.max(latestEpochDay, rates.lastKey());
+            }
+
+            return new ExchangeRateSnapshot(generation,
+                    createdAt,
+                    labels.toArray(Labels[]::new),
+                    Collections.unmodifiableList(currencies),
+                    buildCurrencyDictionary(currencies),
+                    size,
+                    size == 0 ? null : LocalDate.ofEpochDay(latestEpochDay));
+        }
+    }
+}
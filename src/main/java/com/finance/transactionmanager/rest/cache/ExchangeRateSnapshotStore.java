@@ -0,0 +1,200 @@
+package com.finance.transactionmanager.rest.cache;
+
+import com.finance.transactionmanager.rest.response.ExchangeDataModel;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+@Log4j2
+public class ExchangeRateSnapshotStore {
+    private static final int MAGIC = 0x46495343;
+    private static final short FORMAT_VERSION = 1;
+    private static final long NO_FULL_REFRESH = -1L;
+
+    @Value("${system.gateways.fiscal-gateway.enable-snapshot-persistence}")
+    private boolean persistenceEnabled;
+    @Value("${system.gateways.fiscal-gateway.snapshot-file}")
+    private String snapshotFile;
+
+    public void save(ExchangeRateSnapshot snapshot, Instant lastFullRefresh) {
+        if (!persistenceEnabled || snapshot.isEmpty()) return;
+
+        var target = Path.of(snapshotFile);
+
+        try {
+            if (target.getParent() != null) Files.createDirectories(target.getParent());
+
+            var temporaryFile = target.resolveSibling(target.getFileName() + ".tmp");
+
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                write(output, snapshot, lastFullRefresh);
+            }
+
+            Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            log.info("[{}] Persisted snapshot generation {} with {} exchange entries to '{}'.",
+                    this.getClass().getSimpleName(), snapshot.getGeneration(), snapshot.size(), target);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("[{}] Could not persist exchange rate snapshot to '{}'.",
+                    this.getClass().getSimpleName(), target, ex);
+        }
+    }
+
+    public Optional<PersistedSnapshot> load() {
+        if (!persistenceEnabled) return Optional.empty();
+
+        var source = Path.of(snapshotFile);
+
+        if (!Files.isRegularFile(source)) return Optional.empty();
+
+        try (var channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            var persisted = read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+
+            log.info("[{}] Loaded snapshot generation {} with {} exchange entries from '{}'.",
+                    this.getClass().getSimpleName(),
+                    persisted.snapshot().getGeneration(),
+                    persisted.snapshot().size(),
+                    source);
+
+            return Optional.of(persisted);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("[{}] Ignoring unreadable exchange rate snapshot at '{}'.",
+                    this.getClass().getSimpleName(), source, ex);
+
+            return Optional.empty();
+        }
+    }
+
+    private void write(DataOutputStream output, ExchangeRateSnapshot snapshot, Instant lastFullRefresh)
+            throws IOException {
+        var strings = new ArrayList<String>();
+        var stringIds = new HashMap<String, Integer>();
+
+        snapshot.forEach(entry -> {
+            stringIds.computeIfAbsent(nullToEmpty(entry.getCountryCurrencyDescription()), registerIn(strings));
+            stringIds.computeIfAbsent(nullToEmpty(entry.getOriginatingCountry()), registerIn(strings));
+            stringIds.computeIfAbsent(nullToEmpty(entry.getCurrencyLabel()), registerIn(strings));
+        });
+
+        output.writeInt(MAGIC);
+        output.writeShort(FORMAT_VERSION);
+        output.writeLong(snapshot.getGeneration());
+        output.writeLong(snapshot.getCreatedAt().toEpochMilli());
+        output.writeLong(lastFullRefresh == null ? NO_FULL_REFRESH : lastFullRefresh.toEpochMilli());
+
+        output.writeInt(strings.size());
+
+        for (var value : strings) {
+            var bytes = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+
+        output.writeInt(snapshot.size());
+
+        try {
+            snapshot.forEach(entry -> {
+                try {
+                    writeEntry(output, entry, stringIds);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private void writeEntry(DataOutputStream output, ExchangeDataModel entry, Map<String, Integer> stringIds)
+            throws IOException {
+        var unscaledValue = entry.getExchangeRate().unscaledValue().toByteArray();
+
+        output.writeInt(stringIds.get(nullToEmpty(entry.getCountryCurrencyDescription())));
+        output.writeInt(stringIds.get(nullToEmpty(entry.getOriginatingCountry())));
+        output.writeInt(stringIds.get(nullToEmpty(entry.getCurrencyLabel())));
+        output.writeInt((int) entry.getRecordDate().toEpochDay());
+        output.writeInt(entry.getExchangeRate().scale());
+        output.writeByte(unscaledValue.length);
+        output.write(unscaledValue);
+    }
+
+    private PersistedSnapshot read(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported snapshot file format.");
+        }
+
+        var generation = buffer.getLong();
+        var createdAt = Instant.ofEpochMilli(buffer.getLong());
+        var lastFullRefreshMillis = buffer.getLong();
+
+        var strings = new String[buffer.getInt()];
+
+        for (int i = 0; i < strings.length; i++) {
+            var bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = bytes.length == 0 ? null : new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        var builder = ExchangeRateSnapshot.builder();
+        var entryCount = buffer.getInt();
+
+        for (int i = 0; i < entryCount; i++) {
+            var countryCurrencyDescription = strings[buffer.getInt()];
+            var originatingCountry = strings[buffer.getInt()];
+            var currencyLabel = strings[buffer.getInt()];
+            var recordDate = LocalDate.ofEpochDay(buffer.getInt());
+            var scale = buffer.getInt();
+            var unscaledValue = new byte[buffer.get()];
+            buffer.get(unscaledValue);
+
+            builder.add(ExchangeDataModel.builder()
+                    .countryCurrencyDescription(countryCurrencyDescription)
+                    .originatingCountry(originatingCountry)
+                    .currencyLabel(currencyLabel)
+                    .recordDate(recordDate)
+                    .exchangeRate(new BigDecimal(new BigInteger(unscaledValue), scale))
+                    .build());
+        }
+
+        return new PersistedSnapshot(
+                builder.build(generation, createdAt),
+                lastFullRefreshMillis == NO_FULL_REFRESH ? null : Instant.ofEpochMilli(lastFullRefreshMillis));
+    }
+
+    private static Function<String, Integer> registerIn(List<String> strings) {
+        return value -> {
+            strings.add(value);
+            return strings.size() - 1;
+        };
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    public record PersistedSnapshot(ExchangeRateSnapshot snapshot, Instant lastFullRefresh) {
+    }
+}
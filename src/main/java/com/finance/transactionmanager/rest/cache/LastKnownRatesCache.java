@@ -0,0 +1,34 @@
+package com.finance.transactionmanager.rest.cache;
+
+import com.finance.transactionmanager.rest.response.ExchangeApiResponseModel;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+public class LastKnownRatesCache {
+    private final Cache<String, ExchangeApiResponseModel> lastKnownResponses;
+
+    public LastKnownRatesCache(@Value("${system.gateways.fiscal-gateway.last-known-rates-max-entries}")
+                               long maxEntries) {
+        this.lastKnownResponses = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    public Optional<ExchangeApiResponseModel> find(String lookupKey) {
+        return Optional.ofNullable(lastKnownResponses.getIfPresent(lookupKey))
+                .map(response -> ExchangeApiResponseModel.builder()
+                        .data(response.getData())
+                        .meta(response.getMeta())
+                        .stale(true)
+                        .build());
+    }
+
+    public void record(String lookupKey, ExchangeApiResponseModel response) {
+        lastKnownResponses.put(lookupKey, response);
+    }
+}
@@ -0,0 +1,35 @@
+package com.finance.transactionmanager.rest.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class NegativeLookupCache {
+    private final Cache<String, Boolean> missingLookups;
+
+    public NegativeLookupCache(@Value("${system.gateways.fiscal-gateway.negative-cache-ttl-in-millis}")
+                               long timeToLiveInMillis,
+                               @Value("${system.gateways.fiscal-gateway.negative-cache-max-entries}")
+                               long maxEntries) {
+        this.missingLookups = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(timeToLiveInMillis))
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    public boolean isKnownMissing(String lookupKey) {
+        return missingLookups.getIfPresent(lookupKey) != null;
+    }
+
+    public void recordMissing(String lookupKey) {
+        missingLookups.put(lookupKey, Boolean.TRUE);
+    }
+
+    public void invalidateAll() {
+        missingLookups.invalidateAll();
+    }
+}
@@ -0,0 +1,114 @@
+package com.finance.transactionmanager.rest.decoders;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.finance.transactionmanager.rest.response.ExchangeDataModel;
+import com.finance.transactionmanager.rest.response.Meta;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public final class ExchangePageDecoder {
+    private static final String DATA_FIELD = "data";
+    private static final String META_FIELD = "meta";
+
+    private final ObjectMapper objectMapper;
+    private final Consumer<Meta> metaConsumer;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private int depth;
+    private int itemDepth;
+    private String topLevelField;
+    private TokenBuffer itemBuffer;
+
+    public ExchangePageDecoder(ObjectMapper objectMapper, Consumer<Meta> metaConsumer) {
+        this.objectMapper = objectMapper;
+        this.metaConsumer = metaConsumer;
+
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    public List<ExchangeDataModel> decode(DataBuffer buffer) {
+        try {
+            var bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            feeder.feedInput(bytes, 0, bytes.length);
+
+            return parseAvailableTokens();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    public List<ExchangeDataModel> complete() {
+        feeder.endOfInput();
+
+        try {
+            return parseAvailableTokens();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private List<ExchangeDataModel> parseAvailableTokens() throws IOException {
+        var rows = new ArrayList<ExchangeDataModel>();
+        JsonToken token;
+
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (token.isStructEnd()) depth--;
+
+            if (itemBuffer == null && token == JsonToken.START_OBJECT && isItemStart()) {
+                itemBuffer = new TokenBuffer(parser);
+                itemDepth = depth;
+            }
+
+            if (itemBuffer != null) {
+                itemBuffer.copyCurrentEvent(parser);
+            } else if (token == JsonToken.FIELD_NAME && depth == 1) {
+                topLevelField = parser.currentName();
+            }
+
+            if (token.isStructStart()) depth++;
+
+            if (itemBuffer != null && token.isStructEnd() && depth == itemDepth) {
+                completeItem(rows);
+            }
+        }
+
+        return rows;
+    }
+
+    private boolean isItemStart() {
+        return (depth == 2 && DATA_FIELD.equals(topLevelField))
+                || (depth == 1 && META_FIELD.equals(topLevelField));
+    }
+
+    private void completeItem(List<ExchangeDataModel> rows) throws IOException {
+        try (var itemParser = itemBuffer.asParser(objectMapper)) {
+            if (META_FIELD.equals(topLevelField)) {
+                metaConsumer.accept(objectMapper.readValue(itemParser, Meta.class));
+            } else {
+                rows.add(objectMapper.readValue(itemParser, ExchangeDataModel.class));
+            }
+        } finally {
+            itemBuffer = null;
+        }
+    }
+}
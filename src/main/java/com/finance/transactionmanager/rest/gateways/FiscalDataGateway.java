@@ -1,47 +1,130 @@
 package com.finance.transactionmanager.rest.gateways;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.finance.transactionmanager.exceptions.custom.BadRequestException;
 import com.finance.transactionmanager.exceptions.custom.InternalServerErrorException;
+import com.finance.transactionmanager.exceptions.custom.ServiceUnavailableException;
+import com.finance.transactionmanager.rest.cache.ExchangeRateSnapshot;
+import com.finance.transactionmanager.rest.cache.ExchangeRateSnapshotStore;
+import com.finance.transactionmanager.rest.cache.LastKnownRatesCache;
+import com.finance.transactionmanager.rest.cache.NegativeLookupCache;
+import com.finance.transactionmanager.rest.decoders.ExchangePageDecoder;
 import com.finance.transactionmanager.rest.response.ExchangeApiResponseModel;
 import com.finance.transactionmanager.rest.response.ExchangeDataModel;
+import com.finance.transactionmanager.rest.response.Meta;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import jakarta.annotation.PostConstruct;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @EnableScheduling
 @Log4j2
 public class FiscalDataGateway {
+    public static final String RESILIENCE_INSTANCE = "fiscal-data";
+    public static final String REFRESH_BULKHEAD_INSTANCE = "fiscal-data-refresh";
+
     private final WebClient webClient;
-    private final AtomicReference<HashSet<ExchangeDataModel>> cachedData = new AtomicReference<>(new HashSet<>());
+    private final ObjectMapper objectMapper;
+    private final ExchangeRateSnapshotStore snapshotStore;
+    private final NegativeLookupCache negativeLookupCache;
+    private final LastKnownRatesCache lastKnownRatesCache;
+    private final CircuitBreaker circuitBreaker;
+    private final RateLimiter rateLimiter;
+    private final Bulkhead bulkhead;
+    private final Bulkhead refreshBulkhead;
+    private final Scheduler blockingTaskScheduler;
+    private final AtomicReference<ExchangeRateSnapshot> cachedData =
+            new AtomicReference<>(ExchangeRateSnapshot.empty());
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final ConcurrentHashMap<String, Mono<ExchangeApiResponseModel>> inFlightLookups =
+            new ConcurrentHashMap<>();
     @Value("${system.gateways.fiscal-gateway.base-url}")
     private String baseUrl;
     @Value("${system.gateways.fiscal-gateway.max-connection-attempts}")
     private Integer maxConnectionAttempts;
     @Value("${system.gateways.fiscal-gateway.timeout-between-fetch-attempts-in-millis}")
     private Integer timeoutBetweenAttemptsInMillis;
+    @Value("${system.gateways.fiscal-gateway.request-timeout-in-millis}")
+    private long requestTimeoutInMillis;
     @Value("${system.gateways.fiscal-gateway.enable-caching}")
     private boolean cacheEnabled;
+    @Value("${system.gateways.fiscal-gateway.full-refresh-interval-in-milliseconds}")
+    private long fullRefreshIntervalInMillis;
+    @Value("${system.gateways.fiscal-gateway.refresh-page-parallelism}")
+    private int refreshPageParallelism;
 
     private boolean cacheDisabledMessageSentAtStartup;
-
-    public FiscalDataGateway(WebClient webClient) {
+    private volatile Instant lastFullRefresh;
+
+    public FiscalDataGateway(WebClient webClient,
+                             ObjectMapper objectMapper,
+                             ExchangeRateSnapshotStore snapshotStore,
+                             NegativeLookupCache negativeLookupCache,
+                             LastKnownRatesCache lastKnownRatesCache,
+                             CircuitBreakerRegistry circuitBreakerRegistry,
+                             RateLimiterRegistry rateLimiterRegistry,
+                             BulkheadRegistry bulkheadRegistry,
+                             Scheduler blockingTaskScheduler) {
         this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.snapshotStore = snapshotStore;
+        this.negativeLookupCache = negativeLookupCache;
+        this.lastKnownRatesCache = lastKnownRatesCache;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE);
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(RESILIENCE_INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(RESILIENCE_INSTANCE);
+        this.refreshBulkhead = bulkheadRegistry.bulkhead(REFRESH_BULKHEAD_INSTANCE);
+        this.blockingTaskScheduler = blockingTaskScheduler;
+    }
+
+    @PostConstruct
+    public void loadPersistedSnapshot() {
+        if (!cacheEnabled) return;
+
+        snapshotStore.load().ifPresent(persisted -> {
+            cachedData.set(persisted.snapshot());
+            lastFullRefresh = persisted.lastFullRefresh();
+        });
     }
 
     @Scheduled(fixedDelayString = "${system.gateways.fiscal-gateway.refresh-interval-in-milliseconds}")
@@ -59,7 +142,7 @@ public class FiscalDataGateway {
             return;
         }
 
-        doRefresh();
+        doRefresh(isFullRefreshDue());
     }
 
     public void manualCacheRefresh() {
@@ -68,112 +151,322 @@ public class FiscalDataGateway {
                     "the system configuration or contact the system administrator for assistance.");
         }
 
-        doRefresh();
+        doRefresh(true);
     }
 
-    private void doRefresh() {
-        log.info("[{}] Refreshing cache...", this.getClass().getSimpleName());
-        var tempSet = new HashSet<ExchangeDataModel>();
+    private boolean isFullRefreshDue() {
+        return lastFullRefresh == null
+                || cachedData.get().isEmpty()
+                || !Instant.now().isBefore(lastFullRefresh.plusMillis(fullRefreshIntervalInMillis));
+    }
 
-        int currentPage = 1;
-        long totalItemsFromPayload;
+    private void doRefresh(boolean fullRefresh) {
+        refreshLock.lock();
 
-        while (true) {
-            var requestUri = assembleCompleteDataApiRequestUri(currentPage);
-            var apiResponse = communicate(requestUri)
-                    .orElseThrow(() -> {
-                        log.error("[{}] Failed to fetch data from API.", this.getClass().getSimpleName());
-                        return new BadRequestException("Failed to fetch data from API.");
-                    });
+        try {
+            var currentSnapshot = cachedData.get();
+            var newerThan = fullRefresh
+                    ? Optional.<LocalDate>empty()
+                    : currentSnapshot.getLatestRecordDate();
+
+            log.info("[{}] Refreshing cache ({})...",
+                    this.getClass().getSimpleName(),
+                    newerThan.map(date -> "entries newer than " + date).orElse("full reload"));
+
+            var refreshStartedAt = Instant.now();
+            var nextGeneration = currentSnapshot.getGeneration() + 1;
+            long receivedEntries;
+
+            if (newerThan.isEmpty()) {
+                var builder = ExchangeRateSnapshot.builder();
+                receivedEntries = fetchAllPages(null, builder::add);
+                lastFullRefresh = refreshStartedAt;
+
+                publishSnapshot(builder.build(nextGeneration));
+            } else {
+                var newEntries = new ArrayList<ExchangeDataModel>();
+                receivedEntries = fetchAllPages(newerThan.get(), newEntries::add);
+
+                if (receivedEntries > 0) {
+                    publishSnapshot(currentSnapshot.toBuilder().addAll(newEntries).build(nextGeneration));
+                }
+            }
 
-            tempSet.addAll(apiResponse.getData());
+            log.info("[{}] Cache refreshed successfully. Received {} exchange entries, {} cached in total " +
+                            "(generation {}).",
+                    this.getClass().getSimpleName(),
+                    receivedEntries,
+                    cachedData.get().size(),
+                    cachedData.get().getGeneration()
+            );
+        } finally {
+            refreshLock.unlock();
+        }
+    }
 
-            totalItemsFromPayload = apiResponse.getMeta().getTotalCount();
+    public ExchangeRateSnapshot getCurrentSnapshot() {
+        return cachedData.get();
+    }
 
-            int remainingItems = (int) (totalItemsFromPayload - tempSet.size());
+    private void publishSnapshot(ExchangeRateSnapshot snapshot) {
+        cachedData.set(snapshot);
+        negativeLookupCache.invalidateAll();
+        snapshotStore.save(snapshot, lastFullRefresh);
+    }
 
-            if (remainingItems <= 0) break;
+    private long fetchAllPages(LocalDate newerThan, Consumer<ExchangeDataModel> rowConsumer) {
+        var totalPages = new AtomicLong(1);
 
-            currentPage++;
+        try {
+            return fetchPageRows(1, newerThan, meta -> totalPages.set(meta.getTotalPages()))
+                    .concatWith(Flux.defer(() -> Flux.range(2, getRemainingPages(totalPages.get()))
+                            .flatMap(page -> fetchPageRows(page, newerThan, meta -> {
+                            }), refreshPageParallelism)))
+                    .doOnNext(rowConsumer)
+                    .count()
+                    .block();
+        } catch (BadRequestException ex) {
+            throw ex;
+        } catch (CallNotPermittedException | RequestNotPermitted | BulkheadFullException ex) {
+            log.warn("[{}] Skipping cache refresh, calls to the fiscal data source are not permitted: {}",
+                    this.getClass().getSimpleName(), ex.getMessage());
+            throw new ServiceUnavailableException("Fiscal data source is temporarily unavailable. Cache refresh " +
+                    "was skipped, please try again later.");
+        } catch (Exception ex) {
+            log.error("[{}] Failed to fetch data from API.", this.getClass().getSimpleName(), ex);
+            throw new InternalServerErrorException("Failed to fetch data from API. The server may be " +
+                    "unavailable or not responding.");
         }
+    }
+
+    private Flux<ExchangeDataModel> fetchPageRows(int page, LocalDate newerThan, Consumer<Meta> metaConsumer) {
+        return Flux.defer(() -> {
+            var metaReceived = new AtomicBoolean();
+            var requestUri = assembleCompleteDataApiRequestUri(page, newerThan);
+
+            return streamRows(requestUri, meta -> {
+                        metaReceived.set(true);
+                        metaConsumer.accept(meta);
+                    })
+                    .concatWith(Mono.defer(() -> metaReceived.get()
+                            ? Mono.empty()
+                            : Mono.error(this::getEmptyPageFailure)));
+        });
+    }
 
-        cachedData.get().addAll(tempSet);
+    private BadRequestException getEmptyPageFailure() {
+        log.error("[{}] Failed to fetch data from API.", this.getClass().getSimpleName());
 
-        log.info("[{}] Cache refreshed successfully. Received {} exchange entries.",
-                this.getClass().getSimpleName(),
-                cachedData.get().size()
-        );
+        return new BadRequestException("Failed to fetch data from API.");
+    }
+
+    private int getRemainingPages(long totalPages) {
+        return (int) Math.max(0, totalPages - 1);
     }
 
     public Optional<ExchangeApiResponseModel> getExchangeData(@NotNull final String targetCurrency,
                                                               @NotNull final LocalDateTime transactionDate) {
+        return getExchangeData(cachedData.get(), targetCurrency, transactionDate);
+    }
+
+    public Optional<ExchangeApiResponseModel> getExchangeData(@NotNull final ExchangeRateSnapshot snapshot,
+                                                              @NotNull final String targetCurrency,
+                                                              @NotNull final LocalDateTime transactionDate) {
+        var cachedResponse = findCachedData(snapshot, targetCurrency, transactionDate);
+
+        return cachedResponse.isPresent()
+                ? cachedResponse
+                : communicate(lookupFilteredData(snapshot, targetCurrency, transactionDate));
+    }
+
+    public Mono<ExchangeApiResponseModel> getExchangeDataReactive(@NotNull final String targetCurrency,
+                                                                  @NotNull final LocalDateTime transactionDate) {
+        return Mono.defer(() -> getExchangeDataReactive(cachedData.get(), targetCurrency, transactionDate));
+    }
+
+    public Mono<ExchangeApiResponseModel> getExchangeDataReactive(@NotNull final ExchangeRateSnapshot snapshot,
+                                                                  @NotNull final String targetCurrency,
+                                                                  @NotNull final LocalDateTime transactionDate) {
+        return Mono.defer(() -> findCachedData(snapshot, targetCurrency, transactionDate)
+                .map(Mono::just)
+                .orElseGet(() -> lookupFilteredData(snapshot, targetCurrency, transactionDate)
+                        .onErrorMap(this::getUpstreamFailure)));
+    }
+
+    private Optional<ExchangeApiResponseModel> findCachedData(ExchangeRateSnapshot snapshot,
+                                                              String targetCurrency,
+                                                              LocalDateTime transactionDate) {
         List<ExchangeDataModel> filteredData = List.of();
 
-        if (cacheEnabled && !cachedData.get().isEmpty()) {
-            filteredData = filterCacheData(targetCurrency, transactionDate);
+        if (cacheEnabled && !snapshot.isEmpty() && targetCurrency != null) {
+            filteredData = filterCacheData(snapshot, targetCurrency, transactionDate);
         }
 
         return filteredData.isEmpty()
-                ? communicate(assembleFilteredApiRequestUri(normalizeCurrencyText(targetCurrency), transactionDate))
+                ? Optional.empty()
                 : Optional.of(ExchangeApiResponseModel.builder().data(filteredData).build());
     }
 
-    private List<ExchangeDataModel> filterCacheData(String targetCurrency, LocalDateTime transactionDate) {
-        return cachedData.get()
-                .stream()
-                .filter(item -> item.getCountryCurrencyDescription().equalsIgnoreCase(targetCurrency))
-                .filter(item ->
-                        item.getRecordDate().isAfter(transactionDate.minusMonths(6).toLocalDate()))
-                .toList();
+    private List<ExchangeDataModel> filterCacheData(ExchangeRateSnapshot snapshot,
+                                                    String targetCurrency,
+                                                    LocalDateTime transactionDate) {
+        return snapshot
+                .findLatest(targetCurrency,
+                        transactionDate.toLocalDate(),
+                        transactionDate.minusMonths(6).toLocalDate())
+                .map(List::of)
+                .orElse(List.of());
+    }
+
+    private Mono<ExchangeApiResponseModel> lookupFilteredData(ExchangeRateSnapshot snapshot,
+                                                              String targetCurrency,
+                                                              LocalDateTime transactionDate) {
+        var normalizedCurrency = resolveCurrency(snapshot, targetCurrency);
+        var windowStart = transactionDate.minusMonths(6).toLocalDate();
+        var lookupKey = normalizedCurrency + "|" + windowStart;
+
+        if (negativeLookupCache.isKnownMissing(lookupKey)) return Mono.empty();
+
+        return inFlightLookups.computeIfAbsent(lookupKey,
+                key -> Mono.defer(() -> fetch(assembleFilteredApiRequestUri(normalizedCurrency, windowStart)))
+                        .doOnSuccess(response -> {
+                            if (response == null || response.getData() == null || response.getData().isEmpty()) {
+                                negativeLookupCache.recordMissing(key);
+                            } else {
+                                lastKnownRatesCache.record(key, response);
+                            }
+                        })
+                        .doFinally(signal -> inFlightLookups.remove(key))
+                        .cache())
+                .onErrorResume(ex -> lastKnownRatesCache.find(lookupKey)
+                        .map(response -> {
+                            log.warn("[{}] Fiscal data lookup for '{}' failed, serving last known rates instead.",
+                                    this.getClass().getSimpleName(), lookupKey);
+
+                            return Mono.just(response);
+                        })
+                        .orElseGet(() -> Mono.error(ex)));
     }
 
-    private Optional<ExchangeApiResponseModel> communicate(String requestUri) {
+    private Optional<ExchangeApiResponseModel> communicate(Mono<ExchangeApiResponseModel> request) {
         try {
-            return webClient
-                    .get()
-                    .uri(requestUri)
-                    .retrieve()
-                    .bodyToMono(ExchangeApiResponseModel.class)
-                    .retryWhen(Retry.fixedDelay(maxConnectionAttempts, Duration.ofMillis(timeoutBetweenAttemptsInMillis))
-                            .jitter(0.5))
-                    .blockOptional();
+            return request.blockOptional();
         } catch (Exception ex) {
-            throw new InternalServerErrorException("The purchase cannot be converted to the target currency. Reason: " +
-                    "Failed to retrieve fiscal data from the server. The server may be " +
-                    "unavailable or not responding.");
+            throw getUpstreamFailure(ex);
         }
     }
 
-    private String assembleCompleteDataApiRequestUri(int page) {
-        return baseUrl
+    private RuntimeException getUpstreamFailure(Throwable cause) {
+        if (cause instanceof CallNotPermittedException) {
+            return new ServiceUnavailableException("The purchase cannot be converted to the target currency. " +
+                    "Reason: The fiscal data source is temporarily unavailable after repeated failures. " +
+                    "Please try again later.");
+        }
+
+        if (cause instanceof RequestNotPermitted || cause instanceof BulkheadFullException) {
+            return new ServiceUnavailableException("The purchase cannot be converted to the target currency. " +
+                    "Reason: Too many requests are waiting for the fiscal data source. Please try again later.");
+        }
+
+        return new InternalServerErrorException("The purchase cannot be converted to the target currency. Reason: " +
+                "Failed to retrieve fiscal data from the server. The server may be " +
+                "unavailable or not responding.");
+    }
+
+    private Mono<ExchangeApiResponseModel> fetch(String requestUri) {
+        return webClient
+                .get()
+                .uri(requestUri)
+                .retrieve()
+                .bodyToMono(ExchangeApiResponseModel.class)
+                .timeout(Duration.ofMillis(requestTimeoutInMillis))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(this::withLookupPermit)
+                .transformDeferred(RateLimiterOperator.of(rateLimiter))
+                .retryWhen(getRetrySpec());
+    }
+
+    private <T> Mono<T> withLookupPermit(Mono<T> call) {
+        // the reactor bulkhead operator never waits, so lookups queue for a permit up to the configured max wait
+        var permit = Mono.fromCallable(() -> {
+                    bulkhead.acquirePermission();
+                    return bulkhead;
+                })
+                .subscribeOn(blockingTaskScheduler)
+                .doOnDiscard(Bulkhead.class, Bulkhead::releasePermission);
+
+        return Mono.usingWhen(permit, acquired -> call, acquired -> Mono.fromRunnable(acquired::onComplete));
+    }
+
+    private Flux<ExchangeDataModel> streamRows(String requestUri, Consumer<Meta> metaConsumer) {
+        var body = webClient
+                .get()
+                .uri(requestUri)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+
+        return Flux.defer(() -> {
+                    var decoder = new ExchangePageDecoder(objectMapper, metaConsumer);
+
+                    return body
+                            .concatMapIterable(decoder::decode)
+                            .concatWith(Flux.defer(() -> Flux.fromIterable(decoder.complete())));
+                })
+                .timeout(Duration.ofMillis(requestTimeoutInMillis))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(refreshBulkhead))
+                .transformDeferred(RateLimiterOperator.of(rateLimiter))
+                .retryWhen(getRetrySpec());
+    }
+
+    private RetryBackoffSpec getRetrySpec() {
+        return Retry.fixedDelay(maxConnectionAttempts, Duration.ofMillis(timeoutBetweenAttemptsInMillis))
+                .jitter(0.5)
+                .filter(ex -> !(ex instanceof CallNotPermittedException
+                        || ex instanceof RequestNotPermitted
+                        || ex instanceof BulkheadFullException));
+    }
+
+    private String assembleCompleteDataApiRequestUri(int page, LocalDate newerThan) {
+        var uri = baseUrl
                 + "/v1/accounting/od/rates_of_exchange"
                 + "?fields=record_date,exchange_rate,country,currency,country_currency_desc"
                 + "&page[number]="
                 + page
                 + "&page[size]=10000";
+
+        return newerThan == null
+                ? uri
+                : uri + "&filter=record_date:gt:" + newerThan.format(DateTimeFormatter.ISO_LOCAL_DATE);
     }
 
-    private String assembleFilteredApiRequestUri(String targetCurrency, LocalDateTime originalTransactionDate) {
-        targetCurrency = normalizeCurrencyText(targetCurrency);
-        var sixMonthsBeforeTransaction = originalTransactionDate.minusMonths(6)
-                .toLocalDate()
-                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+    private String assembleFilteredApiRequestUri(String normalizedCurrency, LocalDate windowStart) {
+        var sixMonthsBeforeTransaction = windowStart.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
 
         return baseUrl
                 + "/v1/accounting/od/rates_of_exchange"
                 + "?fields=record_date,exchange_rate,country,currency, country_currency_desc"
                 + "&filter=country_currency_desc:in:("
-                + targetCurrency
+                + normalizedCurrency
                 + "),record_date:gte:"
                 + sixMonthsBeforeTransaction
                 + "&sort=-record_date";
     }
 
-    private String normalizeCurrencyText(String targetCurrency) {
-        if (targetCurrency == null || targetCurrency.trim().isEmpty()) {
+    private String resolveCurrency(ExchangeRateSnapshot snapshot, String targetCurrency) {
+        if (targetCurrency == null || targetCurrency.isBlank()) {
             throw new IllegalArgumentException("Currency input cannot be null or empty.");
         }
 
+        if (!cacheEnabled || snapshot.isEmpty()) return normalizeCurrencyText(targetCurrency);
+
+        return snapshot.resolveCurrency(targetCurrency)
+                .orElseThrow(() -> new BadRequestException("The purchase cannot be converted to the target " +
+                        "currency. Reason: Currency '" + targetCurrency.trim() + "' is not available in the " +
+                        "fiscal data source."));
+    }
+
+    private String normalizeCurrencyText(String targetCurrency) {
         var parts = targetCurrency.trim().split("-");
 
         if (parts.length != 2) {
@@ -1,5 +1,6 @@
 package com.finance.transactionmanager.rest.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,5 +15,7 @@ import java.util.List;
 public class ExchangeApiResponseModel {
     private List<ExchangeDataModel> data;
     private Meta meta;
+    @JsonIgnore
+    private boolean stale;
 }
 
@@ -1,21 +1,45 @@
 package com.finance.transactionmanager.services;
 
+import com.finance.transactionmanager.entities.TransactionEntity;
 import com.finance.transactionmanager.exceptions.custom.BadRequestException;
 import com.finance.transactionmanager.exceptions.custom.NotFoundException;
+import com.finance.transactionmanager.exceptions.custom.ServiceUnavailableException;
 import com.finance.transactionmanager.mappers.TransactionMapper;
 import com.finance.transactionmanager.models.generic.CollectionContentWrapper;
+import com.finance.transactionmanager.models.request.BatchExchangeRequestModel;
+import com.finance.transactionmanager.models.request.BulkTransactionRequestModel;
 import com.finance.transactionmanager.models.request.TransactionRequestModel;
+import com.finance.transactionmanager.models.response.BatchExchangeItemResponseModel;
+import com.finance.transactionmanager.models.response.BatchExchangeResponseModel;
+import com.finance.transactionmanager.models.response.BulkTransactionResponseModel;
 import com.finance.transactionmanager.models.response.ExchangeDetailsResponseModel;
 import com.finance.transactionmanager.models.response.ExchangeResponseModel;
+import com.finance.transactionmanager.models.response.IngestionStatus;
+import com.finance.transactionmanager.models.response.IngestionStatusResponseModel;
+import com.finance.transactionmanager.models.response.MultiExchangeResponseModel;
 import com.finance.transactionmanager.models.response.TransactionResponseModel;
+import com.finance.transactionmanager.repositories.TransactionBatchWriter;
 import com.finance.transactionmanager.repositories.TransactionRepository;
+import com.finance.transactionmanager.rest.cache.ExchangeRateSnapshot;
 import com.finance.transactionmanager.rest.gateways.FiscalDataGateway;
 import com.finance.transactionmanager.rest.response.ExchangeApiResponseModel;
 import com.finance.transactionmanager.rest.response.ExchangeDataModel;
+import com.finance.transactionmanager.services.cache.ExchangeResultCache;
+import com.finance.transactionmanager.services.cache.ExchangeResultCache.ExchangeResultKey;
+import com.finance.transactionmanager.services.cache.TransactionSnapshotCache;
+import com.finance.transactionmanager.services.ingestion.TransactionIngestionQueue;
+import com.finance.transactionmanager.services.pagination.CountMode;
+import com.finance.transactionmanager.services.pagination.TransactionCursor;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -25,60 +49,385 @@ import java.util.*;
 @Service
 @AllArgsConstructor
 public class TransactionService {
+    public static final int MAX_TARGET_CURRENCIES = 20;
+
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
     private final FiscalDataGateway fiscalDataGateway;
+    private final Scheduler blockingTaskScheduler;
+    private final ExchangeResultCache exchangeResultCache;
+    private final TransactionBatchWriter transactionBatchWriter;
+    private final TransactionSnapshotCache transactionSnapshotCache;
+    private final TransactionIngestionQueue transactionIngestionQueue;
 
     public void refreshCache() {
         fiscalDataGateway.manualCacheRefresh();
     }
 
+    @Transactional(readOnly = true)
     public CollectionContentWrapper<TransactionResponseModel> getAll(int page, int size) {
+        return getAll(page, size, CountMode.EXACT);
+    }
+
+    @Transactional(readOnly = true)
+    public CollectionContentWrapper<TransactionResponseModel> getAll(int page, int size, CountMode countMode) {
         if (page < 0) throw new BadRequestException("Page number cannot be less than zero.");
-        if (size < 1 || size > 100) throw new BadRequestException("Page size must be between 1 and 100.");
+        validatePageSize(size);
 
-        var searchResult = transactionRepository.findAll(PageRequest.of(page, size));
+        var pageRequest = PageRequest.of(page, size, Sort.by("transactionDate", "id"));
+
+        if (countMode != CountMode.EXACT) return getSlice(pageRequest, countMode);
+
+        var searchResult = transactionRepository.findAllRows(pageRequest);
 
         var transactions = searchResult
                 .stream()
-                .map(transactionMapper::fromEntityToTransactionResponseModel)
+                .map(transactionMapper::withDefaultCurrency)
                 .toList();
 
+        var nextCursor = searchResult.hasNext()
+                ? TransactionCursor.of(searchResult.getContent().getLast()).encode()
+                : null;
+
         return new CollectionContentWrapper<>(transactions,
                 searchResult.getNumber(),
                 searchResult.getTotalPages(),
                 searchResult.getSize(),
-                searchResult.getTotalElements());
+                searchResult.getTotalElements(),
+                false,
+                searchResult.hasNext(),
+                nextCursor);
+    }
+
+    private CollectionContentWrapper<TransactionResponseModel> getSlice(PageRequest pageRequest, CountMode countMode) {
+        var searchResult = transactionRepository.findRowSlice(pageRequest);
+
+        var transactions = searchResult
+                .stream()
+                .map(transactionMapper::withDefaultCurrency)
+                .toList();
+
+        var totalElements = countMode == CountMode.APPROXIMATE ? estimateTotalElements() : null;
+        var totalPages = totalElements == null
+                ? null
+                : (int) Math.ceil((double) totalElements / pageRequest.getPageSize());
+
+        return CollectionContentWrapper.<TransactionResponseModel>builder()
+                .data(transactions)
+                .page(searchResult.getNumber())
+                .size(searchResult.getSize())
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .totalsEstimated(totalElements == null ? null : true)
+                .hasNext(searchResult.hasNext())
+                .nextCursor(searchResult.hasNext()
+                        ? TransactionCursor.of(searchResult.getContent().getLast()).encode()
+                        : null)
+                .build();
+    }
+
+    private long estimateTotalElements() {
+        var estimate = transactionRepository.estimateCount();
+
+        return estimate == null || estimate < 0 ? transactionRepository.count() : estimate;
+    }
+
+    @Transactional(readOnly = true)
+    public CollectionContentWrapper<TransactionResponseModel> getAllAfter(String cursor, int size) {
+        validatePageSize(size);
+
+        var searchResult = cursor == null || cursor.isBlank()
+                ? transactionRepository.findFirstRows(Limit.of(size + 1))
+                : findRowsAfterCursor(TransactionCursor.decode(cursor.trim()), size + 1);
+
+        var hasNext = searchResult.size() > size;
+
+        var transactions = (hasNext ? searchResult.subList(0, size) : searchResult).stream()
+                .map(transactionMapper::withDefaultCurrency)
+                .toList();
+
+        return CollectionContentWrapper.<TransactionResponseModel>builder()
+                .data(transactions)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? TransactionCursor.of(transactions.getLast()).encode() : null)
+                .build();
+    }
+
+    private List<TransactionResponseModel> findRowsAfterCursor(TransactionCursor cursor, int limit) {
+        return transactionRepository.findRowsAfter(cursor.transactionDate(), cursor.id(), Limit.of(limit));
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > 100) throw new BadRequestException("Page size must be between 1 and 100.");
     }
 
     public TransactionResponseModel create(@NotNull TransactionRequestModel request) {
+        var entity = toNewEntity(request, LocalDateTime.now());
+
+        if (transactionIngestionQueue.isEnabled()) {
+            transactionIngestionQueue.enqueue(entity);
+
+            return transactionMapper.fromEntityToTransactionResponseModel(entity);
+        }
+
+        var response = transactionRepository.save(entity);
+
+        transactionSnapshotCache.put(response);
+
+        return transactionMapper.fromEntityToTransactionResponseModel(response);
+    }
+
+    public boolean isAsyncIngestion() {
+        return transactionIngestionQueue.isEnabled();
+    }
+
+    public IngestionStatusResponseModel getIngestionStatus(UUID id) {
+        var status = transactionIngestionQueue.findStatus(id)
+                .or(() -> findPersistedTransaction(id).map(entity -> IngestionStatus.PERSISTED))
+                .orElseThrow(() -> getTransactionNotFound(id));
+
+        return IngestionStatusResponseModel.builder()
+                .transactionId(id)
+                .status(status)
+                .build();
+    }
+
+    public BulkTransactionResponseModel createAll(@NotNull BulkTransactionRequestModel request) {
+        var transactionDate = LocalDateTime.now();
+
+        var entities = request.getTransactions().stream()
+                .map(transaction -> toNewEntity(transaction, transactionDate))
+                .toList();
+
+        var ids = transactionBatchWriter.insertAll(entities);
+
+        transactionSnapshotCache.putAll(entities);
+
+        return BulkTransactionResponseModel.builder()
+                .created(ids.size())
+                .ids(ids)
+                .build();
+    }
+
+    private TransactionEntity toNewEntity(TransactionRequestModel request, LocalDateTime transactionDate) {
         request.setPurchaseAmount(
                 request.getPurchaseAmount().setScale(2, RoundingMode.HALF_UP)
         );
 
         var entity = transactionMapper.fromRequestModelToEntity(request);
 
-        entity.setTransactionDate(LocalDateTime.now());
+        entity.setTransactionDate(transactionDate);
 
-        var response = transactionRepository.save(entity);
-
-        return transactionMapper.fromEntityToTransactionResponseModel(response);
+        return entity;
     }
 
     public ExchangeResponseModel exchange(UUID id, String targetCurrency) {
-        var searchResult = transactionRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Transaction with id '" + id + "' was not found."));
+        var snapshot = fiscalDataGateway.getCurrentSnapshot();
+        var resultKey = getResultKey(snapshot, id, targetCurrency);
+        var cachedResult = resultKey.flatMap(exchangeResultCache::find);
+
+        if (cachedResult.isPresent()) return cachedResult.get();
 
-        var fiscalDataResponse = fiscalDataGateway.getExchangeData(targetCurrency, searchResult.getTransactionDate());
+        var searchResult = findTransaction(id);
+
+        var fiscalDataResponse = fiscalDataGateway
+                .getExchangeData(snapshot, targetCurrency, searchResult.getTransactionDate());
+
+        var result = assembleExchangeResponse(searchResult, fiscalDataResponse.orElse(null));
+
+        resultKey.ifPresent(key -> cacheResult(key, result));
+
+        return result;
+    }
+
+    public Mono<ExchangeResponseModel> exchangeReactive(UUID id, String targetCurrency) {
+        return Mono.defer(() -> {
+            var snapshot = fiscalDataGateway.getCurrentSnapshot();
+            var resultKey = getResultKey(snapshot, id, targetCurrency);
+
+            return Mono.justOrEmpty(resultKey.flatMap(exchangeResultCache::find))
+                    .switchIfEmpty(Mono.fromCallable(() -> findTransaction(id))
+                            .subscribeOn(blockingTaskScheduler)
+                            .flatMap(searchResult -> fiscalDataGateway
+                                    .getExchangeDataReactive(snapshot, targetCurrency,
+                                            searchResult.getTransactionDate())
+                                    .map(fiscalDataResponse -> assembleExchangeResponse(searchResult,
+                                            fiscalDataResponse))
+                                    .switchIfEmpty(Mono.fromCallable(() ->
+                                            assembleExchangeResponse(searchResult, null))))
+                            .doOnNext(result -> resultKey.ifPresent(key -> cacheResult(key, result))));
+        });
+    }
+
+    public BatchExchangeResponseModel exchangeBatch(@NotNull BatchExchangeRequestModel request) {
+        var targetCurrency = request.getTargetCurrency();
+        var snapshot = fiscalDataGateway.getCurrentSnapshot();
+        var results = new HashMap<UUID, ExchangeResponseModel>();
+
+        request.getTransactionIds().forEach(id -> getResultKey(snapshot, id, targetCurrency)
+                .flatMap(exchangeResultCache::find)
+                .ifPresent(result -> results.put(id, result)));
+
+        var missingIds = request.getTransactionIds().stream()
+                .filter(id -> !results.containsKey(id))
+                .distinct()
+                .toList();
+
+        var transactions = new HashMap<UUID, TransactionEntity>();
+
+        missingIds.forEach(id -> transactionSnapshotCache.find(id)
+                .ifPresent(entity -> transactions.put(id, entity)));
+
+        var uncachedIds = missingIds.stream()
+                .filter(id -> !transactions.containsKey(id))
+                .toList();
+
+        if (!uncachedIds.isEmpty()) {
+            var loaded = transactionRepository.findAllById(uncachedIds);
+
+            transactionSnapshotCache.putAll(loaded);
+            loaded.forEach(entity -> transactions.put(entity.getId(), entity));
+        }
+
+        var items = request.getTransactionIds().stream()
+                .map(id -> exchangeBatchItem(id, targetCurrency, snapshot, transactions, results))
+                .toList();
+
+        var succeeded = (int) items.stream().filter(item -> item.getResult() != null).count();
+
+        return BatchExchangeResponseModel.builder()
+                .targetCurrency(targetCurrency)
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded)
+                .results(items)
+                .build();
+    }
+
+    public MultiExchangeResponseModel exchangeMany(UUID id, List<String> targetCurrencies) {
+        var currencies = Optional.ofNullable(targetCurrencies).orElse(List.of()).stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(currency -> !currency.isEmpty())
+                .distinct()
+                .toList();
+
+        if (currencies.isEmpty()) throw new BadRequestException("At least one target currency must be provided.");
+        if (currencies.size() > MAX_TARGET_CURRENCIES) throw new BadRequestException("No more than " +
+                MAX_TARGET_CURRENCIES + " target currencies can be requested at once.");
+
+        var snapshot = fiscalDataGateway.getCurrentSnapshot();
+        var searchResult = findTransaction(id);
+        var exchangeDetails = new LinkedHashMap<String, ExchangeDetailsResponseModel>();
+
+        currencies.forEach(currency -> exchangeDetails.put(currency,
+                exchangeWithSnapshot(snapshot, searchResult, currency).getExchangeDetails()));
+
+        var transactionModel = transactionMapper.fromEntityToTransactionResponseModel(searchResult);
+
+        return MultiExchangeResponseModel.builder()
+                .id(transactionModel.getId())
+                .description(transactionModel.getDescription())
+                .transactionDate(transactionModel.getTransactionDate())
+                .purchaseCurrency(transactionModel.getPurchaseCurrency())
+                .purchaseAmount(transactionModel.getPurchaseAmount())
+                .exchangeDetails(exchangeDetails)
+                .build();
+    }
+
+    private ExchangeResponseModel exchangeWithSnapshot(ExchangeRateSnapshot snapshot,
+                                                       TransactionEntity searchResult,
+                                                       String targetCurrency) {
+        var resultKey = getResultKey(snapshot, searchResult.getId(), targetCurrency);
+
+        return resultKey.flatMap(exchangeResultCache::find).orElseGet(() -> {
+            var fiscalDataResponse = fiscalDataGateway
+                    .getExchangeData(snapshot, targetCurrency, searchResult.getTransactionDate());
+
+            var result = assembleExchangeResponse(searchResult, fiscalDataResponse.orElse(null));
+
+            resultKey.ifPresent(key -> cacheResult(key, result));
+
+            return result;
+        });
+    }
+
+    private BatchExchangeItemResponseModel exchangeBatchItem(UUID id,
+                                                             String targetCurrency,
+                                                             ExchangeRateSnapshot snapshot,
+                                                             Map<UUID, TransactionEntity> transactions,
+                                                             Map<UUID, ExchangeResponseModel> results) {
+        try {
+            var result = results.computeIfAbsent(id, key -> {
+                var searchResult = Optional.ofNullable(transactions.get(id))
+                        .orElseThrow(() -> getTransactionNotFound(id));
+
+                var fiscalDataResponse = fiscalDataGateway
+                        .getExchangeData(snapshot, targetCurrency, searchResult.getTransactionDate());
+
+                var exchangeResult = assembleExchangeResponse(searchResult, fiscalDataResponse.orElse(null));
+
+                getResultKey(snapshot, id, targetCurrency)
+                        .ifPresent(resultKey -> cacheResult(resultKey, exchangeResult));
+
+                return exchangeResult;
+            });
+
+            return BatchExchangeItemResponseModel.builder()
+                    .transactionId(id)
+                    .status(HttpStatus.OK.value())
+                    .result(result)
+                    .build();
+        } catch (RuntimeException ex) {
+            return BatchExchangeItemResponseModel.builder()
+                    .transactionId(id)
+                    .status(getErrorStatus(ex).value())
+                    .error(ex.getMessage())
+                    .build();
+        }
+    }
+
+    private HttpStatus getErrorStatus(RuntimeException ex) {
+        return switch (ex) {
+            case NotFoundException ignored -> HttpStatus.NOT_FOUND;
+            case BadRequestException ignored -> HttpStatus.BAD_REQUEST;
+            case ServiceUnavailableException ignored -> HttpStatus.SERVICE_UNAVAILABLE;
+            default -> HttpStatus.INTERNAL_SERVER_ERROR;
+        };
+    }
+
+    private Optional<ExchangeResultKey> getResultKey(ExchangeRateSnapshot snapshot, UUID id, String targetCurrency) {
+        return snapshot.resolveCurrency(targetCurrency)
+                .map(currency -> new ExchangeResultKey(id, currency, snapshot.getGeneration()));
+    }
+
+    private void cacheResult(ExchangeResultKey key, ExchangeResponseModel result) {
+        if (!result.getExchangeDetails().isStale()) exchangeResultCache.put(key, result);
+    }
+
+    private TransactionEntity findTransaction(UUID id) {
+        return findPersistedTransaction(id)
+                .orElseThrow(() -> getTransactionNotFound(id));
+    }
+
+    private Optional<TransactionEntity> findPersistedTransaction(UUID id) {
+        return transactionSnapshotCache.findOrLoad(id, transactionRepository::findById);
+    }
+
+    private NotFoundException getTransactionNotFound(UUID id) {
+        return new NotFoundException("Transaction with id '" + id + "' was not found.");
+    }
 
-        if (fiscalDataResponse.isEmpty() || fiscalDataResponse.get().getData().isEmpty()) {
+    private ExchangeResponseModel assembleExchangeResponse(TransactionEntity searchResult,
+                                                           ExchangeApiResponseModel fiscalDataResponse) {
+        if (fiscalDataResponse == null || fiscalDataResponse.getData().isEmpty()) {
             throw getBadRequestForFailedConversion("Exchange data is unavailable. Please ensure that the fiscal" +
                     " data source is accessible and contains valid exchange rates for the requested currency.");
         }
 
         var transactionModel = transactionMapper.fromEntityToExchangeResponseModel(searchResult);
 
-        var exchangeDetails = assembleExchangeDetails(transactionModel, fiscalDataResponse.get());
+        var exchangeDetails = assembleExchangeDetails(transactionModel, fiscalDataResponse);
 
         transactionModel.setExchangeDetails(exchangeDetails);
 
@@ -108,6 +457,7 @@ public class TransactionService {
                 .currencyLabel(exchangeData.getCurrencyLabel())
                 .exchangeRate(exchangeData.getExchangeRate())
                 .convertedAmount(exchangedValue)
+                .stale(fiscalDataResponse.isStale())
                 .build();
     }
 
@@ -0,0 +1,37 @@
+package com.finance.transactionmanager.services.cache;
+
+import com.finance.transactionmanager.models.response.ExchangeResponseModel;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class ExchangeResultCache {
+    private final Cache<ExchangeResultKey, ExchangeResponseModel> results;
+
+    public ExchangeResultCache(@Value("${system.caches.exchange-results.max-entries}") long maxEntries) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<ExchangeResponseModel> find(ExchangeResultKey key) {
+        return Optional.ofNullable(results.getIfPresent(key));
+    }
+
+    public void put(ExchangeResultKey key, ExchangeResponseModel result) {
+        results.put(key, result);
+    }
+
+    public Cache<ExchangeResultKey, ExchangeResponseModel> getNativeCache() {
+        return results;
+    }
+
+    public record ExchangeResultKey(UUID transactionId, String currency, long generation) {
+    }
+}
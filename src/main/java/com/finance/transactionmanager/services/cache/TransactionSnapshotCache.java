@@ -0,0 +1,71 @@
+package com.finance.transactionmanager.services.cache;
+
+import com.finance.transactionmanager.entities.TransactionEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class TransactionSnapshotCache {
+    private final Cache<UUID, TransactionSnapshot> snapshots;
+
+    public TransactionSnapshotCache(@Value("${system.caches.transactions.max-entries}") long maxEntries) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<TransactionEntity> find(UUID id) {
+        return Optional.ofNullable(snapshots.getIfPresent(id))
+                .map(TransactionSnapshot::toEntity);
+    }
+
+    public Optional<TransactionEntity> findOrLoad(UUID id, Function<UUID, Optional<TransactionEntity>> loader) {
+        var cached = snapshots.getIfPresent(id);
+        if (cached != null) return Optional.of(cached.toEntity());
+
+        // loaded outside the cache: a compute would hold a synchronized map lock for the whole query
+        var loaded = loader.apply(id);
+        loaded.ifPresent(this::put);
+
+        return loaded.map(TransactionSnapshot::of)
+                .map(TransactionSnapshot::toEntity);
+    }
+
+    public void put(TransactionEntity entity) {
+        snapshots.put(entity.getId(), TransactionSnapshot.of(entity));
+    }
+
+    public void putAll(Collection<TransactionEntity> entities) {
+        entities.forEach(this::put);
+    }
+
+    public Cache<UUID, TransactionSnapshot> getNativeCache() {
+        return snapshots;
+    }
+
+    public record TransactionSnapshot(UUID id,
+                                      String description,
+                                      LocalDateTime transactionDate,
+                                      BigDecimal purchaseAmount) {
+        static TransactionSnapshot of(TransactionEntity entity) {
+            return new TransactionSnapshot(entity.getId(),
+                    entity.getDescription(),
+                    entity.getTransactionDate(),
+                    entity.getPurchaseAmount());
+        }
+
+        TransactionEntity toEntity() {
+            return new TransactionEntity(id, description, transactionDate, purchaseAmount);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.finance.transactionmanager.services.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.transactionmanager.exceptions.custom.BadRequestException;
+import com.finance.transactionmanager.mappers.TransactionMapper;
+import com.finance.transactionmanager.models.response.TransactionResponseModel;
+import com.finance.transactionmanager.repositories.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import static com.finance.transactionmanager.configs.ApiConstants.DEFAULT_DATE_PATTERN;
+
+@Component
+@Log4j2
+public class TransactionExporter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,description,transactionDate,purchaseCurrency,purchaseAmount";
+    private static final DateTimeFormatter CSV_DATE_FORMATTER = DateTimeFormatter.ofPattern(DEFAULT_DATE_PATTERN);
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    @Getter
+    private final long requestTimeoutInMillis;
+
+    public TransactionExporter(TransactionRepository transactionRepository,
+                               TransactionMapper transactionMapper,
+                               EntityManager entityManager,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${system.exports.request-timeout-in-minutes}") long requestTimeoutInMinutes) {
+        this.transactionRepository = transactionRepository;
+        this.transactionMapper = transactionMapper;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.requestTimeoutInMillis = Duration.ofMinutes(requestTimeoutInMinutes).toMillis();
+    }
+
+    public StreamingResponseBody export(ExportFormat format, LocalDate from, LocalDate to, boolean gzip) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("The export start date cannot be after its end date.");
+        }
+
+        var fromDateTime = from == null ? null : from.atStartOfDay();
+        var toDateTime = to == null ? null : to.plusDays(1).atStartOfDay();
+
+        return outputStream -> {
+            var target = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : outputStream;
+            var writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+            var exported = writeRows(format, fromDateTime, toDateTime, writer);
+
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzipOutputStream) gzipOutputStream.finish();
+
+            log.info("[{}] Exported {} transactions as {}.", this.getClass().getSimpleName(), exported, format);
+        };
+    }
+
+    private long writeRows(ExportFormat format,
+                           LocalDateTime from,
+                           LocalDateTime to,
+                           Writer writer) throws IOException {
+        var exported = new AtomicLong();
+
+        if (format == ExportFormat.CSV) writeLine(writer, CSV_HEADER);
+
+        try {
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                try (var rows = transactionRepository.streamForExport(from, to)) {
+                    rows.forEach(entity -> {
+                        var row = transactionMapper.fromEntityToTransactionResponseModel(entity);
+
+                        entityManager.detach(entity);
+                        writeLine(writer, format == ExportFormat.CSV ? toCsvLine(row) : toJsonLine(row));
+                        exported.incrementAndGet();
+                    });
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        return exported.get();
+    }
+
+    private String toJsonLine(TransactionResponseModel row) {
+        try {
+            return objectMapper.writeValueAsString(row);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private String toCsvLine(TransactionResponseModel row) {
+        return String.join(",",
+                row.getId().toString(),
+                escapeCsv(row.getDescription()),
+                CSV_DATE_FORMATTER.format(row.getTransactionDate()),
+                escapeCsv(row.getPurchaseCurrency()),
+                row.getPurchaseAmount().toPlainString());
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) return "";
+        if (value.chars().noneMatch(character -> character == ',' || character == '"'
+                || character == '\n' || character == '\r')) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private void writeLine(Writer writer, String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.finance.transactionmanager.services.ingestion;
+
+import com.finance.transactionmanager.entities.TransactionEntity;
+import com.finance.transactionmanager.entities.ids.TimeOrderedUuidGenerator;
+import com.finance.transactionmanager.exceptions.custom.ServiceUnavailableException;
+import com.finance.transactionmanager.models.response.IngestionStatus;
+import com.finance.transactionmanager.repositories.CommitDurability;
+import com.finance.transactionmanager.repositories.TransactionBatchWriter;
+import com.finance.transactionmanager.services.cache.TransactionSnapshotCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Log4j2
+public class TransactionIngestionQueue implements SmartLifecycle {
+    private static final long POLL_INTERVAL_IN_MILLIS = 100;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    // below the web server phase, so the queue starts before requests arrive and drains after the last one
+    private static final int LIFECYCLE_PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+
+    private final TransactionBatchWriter transactionBatchWriter;
+    private final TransactionSnapshotCache transactionSnapshotCache;
+    private final boolean enabled;
+    private final BlockingQueue<TransactionEntity> queue;
+    private final long enqueueTimeoutInMillis;
+    private final int maxBatchSize;
+    private final long maxBatchDelayInMillis;
+    private final int maxWriteAttempts;
+    private final long retryBackoffInMillis;
+    private final CommitDurability durability;
+    private final Cache<UUID, IngestionStatus> statuses;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public TransactionIngestionQueue(TransactionBatchWriter transactionBatchWriter,
+                                     TransactionSnapshotCache transactionSnapshotCache,
+                                     @Value("${system.ingestion.async-enabled}") boolean enabled,
+                                     @Value("${system.ingestion.queue-capacity}") int queueCapacity,
+                                     @Value("${system.ingestion.enqueue-timeout-in-millis}")
+                                     long enqueueTimeoutInMillis,
+                                     @Value("${system.ingestion.max-batch-size}") int maxBatchSize,
+                                     @Value("${system.ingestion.max-batch-delay-in-millis}")
+                                     long maxBatchDelayInMillis,
+                                     @Value("${system.ingestion.max-write-attempts}") int maxWriteAttempts,
+                                     @Value("${system.ingestion.retry-backoff-in-millis}") long retryBackoffInMillis,
+                                     @Value("${system.ingestion.durability}") CommitDurability durability,
+                                     @Value("${system.ingestion.status-retention-in-minutes}")
+                                     long statusRetentionInMinutes,
+                                     @Value("${system.ingestion.status-max-entries}") long statusMaxEntries) {
+        this.transactionBatchWriter = transactionBatchWriter;
+        this.transactionSnapshotCache = transactionSnapshotCache;
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.enqueueTimeoutInMillis = enqueueTimeoutInMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelayInMillis = maxBatchDelayInMillis;
+        this.maxWriteAttempts = maxWriteAttempts;
+        this.retryBackoffInMillis = retryBackoffInMillis;
+        this.durability = durability;
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(statusMaxEntries)
+                .expireAfterWrite(Duration.ofMinutes(statusRetentionInMinutes))
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public UUID enqueue(TransactionEntity entity) {
+        if (!running) throw getStoppedException();
+
+        if (entity.getId() == null) entity.setId(TimeOrderedUuidGenerator.nextUuid());
+
+        statuses.put(entity.getId(), IngestionStatus.PENDING);
+
+        if (!offer(entity)) {
+            statuses.invalidate(entity.getId());
+
+            throw new ServiceUnavailableException("The transaction ingestion queue is full. Please try again later.");
+        }
+
+        if (!running && queue.remove(entity)) {
+            statuses.invalidate(entity.getId());
+
+            throw getStoppedException();
+        }
+
+        return entity.getId();
+    }
+
+    public Optional<IngestionStatus> findStatus(UUID id) {
+        return Optional.ofNullable(statuses.getIfPresent(id));
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) return;
+
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("transaction-ingestion-writer")
+                .start(this::writeUntilStopped);
+
+        log.info("[{}] Asynchronous ingestion started with {} durability.",
+                this.getClass().getSimpleName(), durability);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) return;
+
+        running = false;
+
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.info("[{}] Asynchronous ingestion stopped with {} transactions left in the queue.",
+                this.getClass().getSimpleName(), queue.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return LIFECYCLE_PHASE;
+    }
+
+    int writeNextBatch() throws InterruptedException {
+        var batch = nextBatch();
+
+        if (!batch.isEmpty()) write(batch);
+
+        return batch.size();
+    }
+
+    private boolean offer(TransactionEntity entity) {
+        try {
+            return queue.offer(entity, enqueueTimeoutInMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+
+    private ServiceUnavailableException getStoppedException() {
+        return new ServiceUnavailableException("The transaction ingestion queue is not accepting transactions. " +
+                "Please try again later.");
+    }
+
+    private void writeUntilStopped() {
+        try {
+            while (running || !queue.isEmpty()) {
+                writeNextBatch();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<TransactionEntity> nextBatch() throws InterruptedException {
+        var first = queue.poll(POLL_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS);
+
+        if (first == null) return List.of();
+
+        var batch = new ArrayList<TransactionEntity>(maxBatchSize);
+        batch.add(first);
+
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxBatchDelayInMillis);
+
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+
+            var remaining = deadline - System.nanoTime();
+
+            if (batch.size() >= maxBatchSize || remaining <= 0 || !running) break;
+
+            var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+
+            if (next == null) break;
+
+            batch.add(next);
+        }
+
+        return batch;
+    }
+
+    private void write(List<TransactionEntity> batch) throws InterruptedException {
+        for (int attempt = 1; attempt <= maxWriteAttempts; attempt++) {
+            try {
+                transactionBatchWriter.insertAll(batch, durability);
+                transactionSnapshotCache.putAll(batch);
+                batch.forEach(entity -> statuses.put(entity.getId(), IngestionStatus.PERSISTED));
+
+                return;
+            } catch (RuntimeException ex) {
+                log.warn("[{}] Failed to write {} queued transactions, attempt {} of {}: {}",
+                        this.getClass().getSimpleName(), batch.size(), attempt, maxWriteAttempts, ex.getMessage());
+
+                if (attempt < maxWriteAttempts) Thread.sleep(retryBackoffInMillis * attempt);
+            }
+        }
+
+        log.error("[{}] Giving up on {} queued transactions.", this.getClass().getSimpleName(), batch.size());
+        batch.forEach(entity -> statuses.put(entity.getId(), IngestionStatus.FAILED));
+    }
+}
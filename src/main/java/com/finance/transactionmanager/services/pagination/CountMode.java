@@ -0,0 +1,7 @@
+package com.finance.transactionmanager.services.pagination;
+
+public enum CountMode {
+    EXACT,
+    APPROXIMATE,
+    NONE
+}
@@ -0,0 +1,36 @@
+package com.finance.transactionmanager.services.pagination;
+
+import com.finance.transactionmanager.exceptions.custom.BadRequestException;
+import com.finance.transactionmanager.models.response.TransactionResponseModel;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+public record TransactionCursor(LocalDateTime transactionDate, UUID id) {
+    private static final String SEPARATOR = "|";
+
+    public static TransactionCursor of(TransactionResponseModel row) {
+        return new TransactionCursor(row.getTransactionDate(), row.getId());
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var separatorIndex = value.indexOf(SEPARATOR);
+
+            return new TransactionCursor(LocalDateTime.parse(value.substring(0, separatorIndex)),
+                    UUID.fromString(value.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new BadRequestException("The provided cursor is not valid.");
+        }
+    }
+
+    public String encode() {
+        var value = transactionDate + SEPARATOR + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,8 +1,18 @@
 package com.finance.transactionmanager.controllers;
 
 import com.finance.transactionmanager.models.generic.CollectionContentWrapper;
+import com.finance.transactionmanager.models.request.BatchExchangeRequestModel;
+import com.finance.transactionmanager.models.request.BulkTransactionRequestModel;
+import com.finance.transactionmanager.models.response.BatchExchangeResponseModel;
+import com.finance.transactionmanager.models.response.BulkTransactionResponseModel;
+import com.finance.transactionmanager.models.response.IngestionStatus;
+import com.finance.transactionmanager.models.response.IngestionStatusResponseModel;
+import com.finance.transactionmanager.models.response.MultiExchangeResponseModel;
 import com.finance.transactionmanager.models.response.TransactionResponseModel;
 import com.finance.transactionmanager.services.TransactionService;
+import com.finance.transactionmanager.services.export.ExportFormat;
+import com.finance.transactionmanager.services.export.TransactionExporter;
+import com.finance.transactionmanager.services.pagination.CountMode;
 import com.finance.transactionmanager.setup.TestBase;
 import com.finance.transactionmanager.setup.fixtures.ExchangeFixtures;
 import com.finance.transactionmanager.setup.fixtures.TransactionFixtures;
@@ -10,9 +20,19 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,6 +46,9 @@ class TransactionControllerTests extends TestBase {
     @Mock
     private TransactionService transactionServiceMock;
 
+    @Mock
+    private TransactionExporter transactionExporterMock;
+
     @Test
     @DisplayName("refreshCache(), should execute successfully")
     void refreshCache_should_execute_successfully() {
@@ -49,9 +72,9 @@ class TransactionControllerTests extends TestBase {
                 0,
                 10,
                 0L)).when(transactionServiceMock)
-                .getAll(anyInt(), anyInt());
+                .getAll(anyInt(), anyInt(), any());
 
-        var result = transactionController.getAll(0, 10);
+        var result = transactionController.getAll(0, 10, null, CountMode.EXACT);
 
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -71,9 +94,9 @@ class TransactionControllerTests extends TestBase {
                 10,
                 1L))
                 .when(transactionServiceMock)
-                .getAll(anyInt(), anyInt());
+                .getAll(anyInt(), anyInt(), any());
 
-        var result = transactionController.getAll(0, 10);
+        var result = transactionController.getAll(0, 10, null, CountMode.EXACT);
 
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -81,6 +104,60 @@ class TransactionControllerTests extends TestBase {
         assertEquals(1, result.getBody().getData().size());
     }
 
+    @Test
+    @DisplayName("getAll(), should continue from the cursor when one is provided")
+    void getAll_should_continue_from_the_cursor_when_one_is_provided() {
+        var response = CollectionContentWrapper.<TransactionResponseModel>builder()
+                .data(List.of(TransactionFixtures.getTransactionResponseModel()))
+                .size(10)
+                .build();
+
+        doReturn(response)
+                .when(transactionServiceMock)
+                .getAllAfter("cursor", 10);
+
+        var result = transactionController.getAll(0, 10, "cursor", CountMode.EXACT);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertSame(response, result.getBody());
+        verify(transactionServiceMock, times(0)).getAll(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("export(), should stream the body as an attachment with the format headers")
+    void export_should_stream_the_body_as_an_attachment_with_the_format_headers() {
+        StreamingResponseBody body = outputStream -> {
+        };
+
+        doReturn(body)
+                .when(transactionExporterMock)
+                .export(ExportFormat.CSV, null, null, true);
+
+        var result = transactionController.export(ExportFormat.CSV, null, null, true,
+                getExportWebRequest(mock(AsyncWebRequest.class)));
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertSame(body, result.getBody());
+        assertEquals(ExportFormat.CSV.getMediaType(), result.getHeaders().getContentType());
+        assertEquals("gzip", result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("transactions.csv", result.getHeaders().getContentDisposition().getFilename());
+    }
+
+    @Test
+    @DisplayName("export(), should apply the export timeout to its own request only")
+    void export_should_apply_the_export_timeout_to_its_own_request_only() {
+        var asyncWebRequest = mock(AsyncWebRequest.class);
+
+        doReturn(1800000L)
+                .when(transactionExporterMock)
+                .getRequestTimeoutInMillis();
+
+        transactionController.export(ExportFormat.NDJSON, null, null, false, getExportWebRequest(asyncWebRequest));
+
+        verify(asyncWebRequest, times(1))
+                .setTimeout(1800000L);
+    }
+
     @Test
     @DisplayName("create(), should execute correctly")
     void create_should_execute_correctly() {
@@ -142,4 +219,123 @@ class TransactionControllerTests extends TestBase {
         assertEquals(ExchangeFixtures.EXCHANGE_RATE, body.getExchangeDetails().getExchangeRate());
         assertEquals(ExchangeFixtures.CONVERTED_AMOUNT, body.getExchangeDetails().getConvertedAmount());
     }
+
+    @Test
+    @DisplayName("exchangeReactive(), should execute correctly")
+    void exchangeReactive_should_execute_correctly() {
+        var exchangeResponse = ExchangeFixtures.getExchangeResponseModel();
+
+        doReturn(Mono.just(exchangeResponse))
+                .when(transactionServiceMock)
+                .exchangeReactive(any(), any());
+
+        StepVerifier.create(transactionController.exchangeReactive(ExchangeFixtures.ID, "Country-Currency"))
+                .assertNext(result -> {
+                    assertEquals(HttpStatus.OK, result.getStatusCode());
+                    assertSame(exchangeResponse, result.getBody());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("exchangeBatch(), should execute correctly")
+    void exchangeBatch_should_execute_correctly() {
+        var batchResponse = BatchExchangeResponseModel.builder()
+                .targetCurrency("Country-Currency")
+                .succeeded(1)
+                .results(List.of())
+                .build();
+
+        doReturn(batchResponse)
+                .when(transactionServiceMock)
+                .exchangeBatch(any());
+
+        var result = transactionController.exchangeBatch(BatchExchangeRequestModel.builder()
+                .transactionIds(List.of(ExchangeFixtures.ID))
+                .targetCurrency("Country-Currency")
+                .build());
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertSame(batchResponse, result.getBody());
+    }
+
+    @Test
+    @DisplayName("exchangeMany(), should execute correctly")
+    void exchangeMany_should_execute_correctly() {
+        var multiResponse = MultiExchangeResponseModel.builder()
+                .id(ExchangeFixtures.ID)
+                .exchangeDetails(Map.of())
+                .build();
+
+        doReturn(multiResponse)
+                .when(transactionServiceMock)
+                .exchangeMany(any(), any());
+
+        var result = transactionController.exchangeMany(ExchangeFixtures.ID, List.of("Country-Currency"));
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertSame(multiResponse, result.getBody());
+    }
+
+    @Test
+    @DisplayName("create(), should answer accepted when the transaction was queued")
+    void create_should_answer_accepted_when_the_transaction_was_queued() {
+        doReturn(true)
+                .when(transactionServiceMock)
+                .isAsyncIngestion();
+
+        doReturn(TransactionFixtures.getTransactionResponseModel())
+                .when(transactionServiceMock)
+                .create(any());
+
+        var result = transactionController.create(TransactionFixtures.getTransactionRequestModel());
+
+        assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+        assertEquals(TransactionFixtures.ID, result.getBody().getId());
+    }
+
+    @Test
+    @DisplayName("getIngestionStatus(), should execute correctly")
+    void getIngestionStatus_should_execute_correctly() {
+        var statusResponse = IngestionStatusResponseModel.builder()
+                .transactionId(TransactionFixtures.ID)
+                .status(IngestionStatus.PENDING)
+                .build();
+
+        doReturn(statusResponse)
+                .when(transactionServiceMock)
+                .getIngestionStatus(TransactionFixtures.ID);
+
+        var result = transactionController.getIngestionStatus(TransactionFixtures.ID);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertSame(statusResponse, result.getBody());
+    }
+
+    @Test
+    @DisplayName("createAll(), should execute correctly")
+    void createAll_should_execute_correctly() {
+        var bulkResponse = BulkTransactionResponseModel.builder()
+                .created(1)
+                .ids(List.of(TransactionFixtures.ID))
+                .build();
+
+        doReturn(bulkResponse)
+                .when(transactionServiceMock)
+                .createAll(any());
+
+        var result = transactionController.createAll(BulkTransactionRequestModel.builder()
+                .transactions(List.of(TransactionFixtures.getTransactionRequestModel()))
+                .build());
+
+        assertEquals(HttpStatus.CREATED, result.getStatusCode());
+        assertSame(bulkResponse, result.getBody());
+    }
+
+    private NativeWebRequest getExportWebRequest(AsyncWebRequest asyncWebRequest) {
+        var servletRequest = new MockHttpServletRequest();
+        WebAsyncUtils.getAsyncManager(servletRequest).setAsyncWebRequest(asyncWebRequest);
+
+        return new ServletWebRequest(servletRequest);
+    }
 }
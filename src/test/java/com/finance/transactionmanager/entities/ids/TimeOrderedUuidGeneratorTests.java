@@ -0,0 +1,60 @@
+package com.finance.transactionmanager.entities.ids;
+
+import org.hibernate.generator.EventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedUuidGeneratorTests {
+    @Test
+    @DisplayName("nextUuid(), should create version 7 ids carrying the creation time")
+    void nextUuid_should_create_version_7_ids_carrying_the_creation_time() {
+        var before = System.currentTimeMillis();
+
+        var result = TimeOrderedUuidGenerator.nextUuid();
+
+        assertEquals(7, result.version());
+        assertEquals(2, result.variant());
+        assertTrue((result.getMostSignificantBits() >>> 16) >= before);
+    }
+
+    @Test
+    @DisplayName("generate(), should keep an id assigned before the insert")
+    void generate_should_keep_an_id_assigned_before_the_insert() {
+        var generator = new TimeOrderedUuidGenerator();
+        var assignedId = TimeOrderedUuidGenerator.nextUuid();
+
+        assertEquals(assignedId, generator.generate(null, null, assignedId, EventType.INSERT));
+        assertNotEquals(assignedId, generator.generate(null, null, null, EventType.INSERT));
+        assertTrue(generator.allowAssignedIdentifiers());
+    }
+
+    @Test
+    @DisplayName("nextUuid(), should keep ids ordered when many are created within the same millisecond")
+    void nextUuid_should_keep_ids_ordered_when_many_are_created_within_the_same_millisecond() {
+        var clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+
+        var ids = IntStream.range(0, 10000)
+                .mapToObj(index -> TimeOrderedUuidGenerator.nextUuid(clock))
+                .toList();
+
+        for (int index = 1; index < ids.size(); index++) {
+            assertTrue(compareUnsigned(ids.get(index - 1), ids.get(index)) < 0);
+        }
+    }
+
+    private int compareUnsigned(UUID first, UUID second) {
+        var result = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+
+        return result != 0
+                ? result
+                : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+}
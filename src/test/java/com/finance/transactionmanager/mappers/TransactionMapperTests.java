@@ -6,6 +6,7 @@ import com.finance.transactionmanager.setup.fixtures.TransactionFixtures;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -99,4 +100,26 @@ class TransactionMapperTests extends TestBase {
         assertEquals(TransactionFixtures.TRANSACTION_DATE_TIME, result.getTransactionDate());
         assertEquals(TransactionFixtures.PURCHASE_AMOUNT, result.getPurchaseAmount());
     }
+
+    @Test
+    @DisplayName("withDefaultCurrency(), should fill the purchase currency of a projected row")
+    void withDefaultCurrency_should_fill_the_purchase_currency_of_a_projected_row() {
+        ReflectionTestUtils.setField(transactionMapper, "defaultCurrency", TransactionFixtures.CURRENCY);
+
+        var row = TransactionFixtures.getTransactionResponseModel();
+        row.setPurchaseCurrency(null);
+
+        var result = transactionMapper.withDefaultCurrency(row);
+
+        assertSame(row, result);
+        assertEquals(TransactionFixtures.CURRENCY, result.getPurchaseCurrency());
+    }
+
+    @Test
+    @DisplayName("withDefaultCurrency(), should throw BadRequestException when the row is null")
+    void withDefaultCurrency_should_throw_bad_request_when_the_row_is_null() {
+        var ex = assertThrows(BadRequestException.class, () -> transactionMapper.withDefaultCurrency(null));
+
+        assertEquals("Request model cannot be null.", ex.getMessage());
+    }
 }
@@ -0,0 +1,89 @@
+package com.finance.transactionmanager.repositories;
+
+import com.finance.transactionmanager.entities.TransactionEntity;
+import com.finance.transactionmanager.setup.TestBase;
+import com.finance.transactionmanager.setup.fixtures.TransactionFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TransactionBatchWriterTests extends TestBase {
+    @Mock
+    private EntityManager entityManagerMock;
+
+    @Mock
+    private PlatformTransactionManager transactionManagerMock;
+
+    @Test
+    @DisplayName("insertAll(), should flush every batch in a single transaction keeping the submission order")
+    void insertAll_should_flush_every_batch_in_a_single_transaction_keeping_the_submission_order() {
+        var writer = new TransactionBatchWriter(entityManagerMock, transactionManagerMock, 2);
+
+        var entities = IntStream.rangeClosed(1, 5)
+                .mapToObj(index -> {
+                    var entity = TransactionFixtures.getTransactionEntity();
+                    entity.setId(UUID.fromString("00000000-0000-0000-0000-00000000000" + index));
+                    return entity;
+                })
+                .toList();
+
+        var result = writer.insertAll(entities);
+
+        assertEquals(entities.stream().map(TransactionEntity::getId).toList(), result);
+
+        var inOrder = inOrder(entityManagerMock);
+        entities.forEach(entity -> inOrder.verify(entityManagerMock).persist(entity));
+
+        verify(entityManagerMock, times(3)).flush();
+        verify(entityManagerMock, times(3)).clear();
+        verify(transactionManagerMock, times(1)).getTransaction(any());
+        verify(transactionManagerMock, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("insertAll(), should roll back every row when a batch fails")
+    void insertAll_should_roll_back_every_row_when_a_batch_fails() {
+        var writer = new TransactionBatchWriter(entityManagerMock, transactionManagerMock, 2);
+
+        doNothing()
+                .doThrow(new IllegalStateException("Constraint violated."))
+                .when(entityManagerMock)
+                .flush();
+
+        var entities = IntStream.rangeClosed(1, 5)
+                .mapToObj(index -> TransactionFixtures.getTransactionEntity())
+                .toList();
+
+        assertThrows(IllegalStateException.class, () -> writer.insertAll(entities));
+
+        verify(transactionManagerMock, times(1)).rollback(any());
+        verify(transactionManagerMock, times(0)).commit(any());
+    }
+
+    @Test
+    @DisplayName("insertAll(), should not open a transaction when there is nothing to insert")
+    void insertAll_should_not_open_a_transaction_when_there_is_nothing_to_insert() {
+        var writer = new TransactionBatchWriter(entityManagerMock, transactionManagerMock, 2);
+
+        assertTrue(writer.insertAll(List.of()).isEmpty());
+
+        verifyNoInteractions(entityManagerMock, transactionManagerMock);
+    }
+
+    @Test
+    @DisplayName("constructor, should fail when the batch size is not positive")
+    void constructor_should_fail_when_the_batch_size_is_not_positive() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TransactionBatchWriter(entityManagerMock, transactionManagerMock, 0));
+    }
+}
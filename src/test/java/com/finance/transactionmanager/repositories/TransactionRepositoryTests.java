@@ -0,0 +1,90 @@
+package com.finance.transactionmanager.repositories;
+
+import com.finance.transactionmanager.entities.TransactionEntity;
+import com.finance.transactionmanager.setup.fixtures.TransactionFixtures;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transactions;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.finance.transactionmanager.repositories.TransactionRepositoryTests$ExportStatementInspector"
+})
+class TransactionRepositoryTests {
+    private static final LocalDateTime FIRST_DATE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @BeforeEach
+    void insertTransactions() {
+        ExportStatementInspector.STATEMENTS.clear();
+
+        transactionRepository.saveAllAndFlush(IntStream.range(0, 3)
+                .mapToObj(day -> {
+                    var entity = TransactionFixtures.getTransactionEntity();
+                    entity.setId(null);
+                    entity.setTransactionDate(FIRST_DATE.plusDays(day));
+                    return entity;
+                })
+                .toList());
+    }
+
+    @Test
+    @DisplayName("streamForExport(), should export every transaction when no range is given")
+    void streamForExport_should_export_every_transaction_when_no_range_is_given() {
+        assertEquals(List.of(FIRST_DATE, FIRST_DATE.plusDays(1), FIRST_DATE.plusDays(2)),
+                exportDates(null, null));
+        assertNoUntypedNullParameters();
+    }
+
+    @Test
+    @DisplayName("streamForExport(), should apply half-open and closed ranges")
+    void streamForExport_should_apply_half_open_and_closed_ranges() {
+        assertEquals(List.of(FIRST_DATE.plusDays(1), FIRST_DATE.plusDays(2)),
+                exportDates(FIRST_DATE.plusDays(1), null));
+        assertEquals(List.of(FIRST_DATE), exportDates(null, FIRST_DATE.plusDays(1)));
+        assertEquals(List.of(FIRST_DATE.plusDays(1)), exportDates(FIRST_DATE.plusDays(1), FIRST_DATE.plusDays(2)));
+        assertNoUntypedNullParameters();
+    }
+
+    private List<LocalDateTime> exportDates(LocalDateTime from, LocalDateTime to) {
+        try (var rows = transactionRepository.streamForExport(from, to)) {
+            return rows.map(TransactionEntity::getTransactionDate).toList();
+        }
+    }
+
+    // Postgres cannot infer the type of a bare "? is null" parameter, unlike H2, so the SQL itself is checked
+    private void assertNoUntypedNullParameters() {
+        var exportStatements = ExportStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase().contains("order by"))
+                .toList();
+
+        assertFalse(exportStatements.isEmpty());
+        exportStatements.forEach(sql -> assertFalse(sql.toLowerCase().contains("? is null"), sql));
+    }
+
+    public static class ExportStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.finance.transactionmanager.rest.cache;
+
+import com.finance.transactionmanager.setup.fixtures.ExchangeFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangeRateSnapshotStoreTests {
+    @TempDir
+    Path temporaryDirectory;
+
+    private ExchangeRateSnapshotStore snapshotStore;
+    private Path snapshotFile;
+
+    @BeforeEach
+    void setupFields() {
+        snapshotFile = temporaryDirectory.resolve("rates").resolve("snapshot.bin");
+        snapshotStore = new ExchangeRateSnapshotStore();
+
+        ReflectionTestUtils.setField(snapshotStore, "persistenceEnabled", true);
+        ReflectionTestUtils.setField(snapshotStore, "snapshotFile", snapshotFile.toString());
+    }
+
+    @Test
+    @DisplayName("save() and load(), should restore an equivalent snapshot")
+    void save_and_load_should_restore_an_equivalent_snapshot() {
+        var entry = ExchangeFixtures.getExchangeDataModel();
+        entry.setExchangeRate(new BigDecimal("5.4300"));
+
+        var otherEntry = ExchangeFixtures.getExchangeDataModel();
+        otherEntry.setCountryCurrencyDescription("Other-Currency");
+        otherEntry.setOriginatingCountry(null);
+
+        var createdAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        var lastFullRefresh = createdAt.minusSeconds(60);
+        var snapshot = ExchangeRateSnapshot.builder()
+                .add(entry)
+                .add(otherEntry)
+                .build(42, createdAt);
+
+        snapshotStore.save(snapshot, lastFullRefresh);
+
+        var result = snapshotStore.load();
+
+        assertTrue(result.isPresent());
+        assertEquals(lastFullRefresh, result.get().lastFullRefresh());
+
+        var restored = result.get().snapshot();
+
+        assertEquals(42, restored.getGeneration());
+        assertEquals(createdAt, restored.getCreatedAt());
+        assertEquals(2, restored.size());
+        assertEquals(entry, restored.findLatest(ExchangeFixtures.COUNTRY_CURRENCY, ExchangeFixtures.EXCHANGE_DATE,
+                ExchangeFixtures.EXCHANGE_DATE.minusMonths(6)).orElseThrow());
+        assertEquals(otherEntry, restored.findLatest("Other-Currency", ExchangeFixtures.EXCHANGE_DATE,
+                ExchangeFixtures.EXCHANGE_DATE.minusMonths(6)).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("load(), should return empty when no snapshot was persisted")
+    void load_should_return_empty_when_no_snapshot_was_persisted() {
+        assertTrue(snapshotStore.load().isEmpty());
+    }
+
+    @Test
+    @DisplayName("load(), should return empty when the snapshot file is unreadable")
+    void load_should_return_empty_when_the_snapshot_file_is_unreadable() throws IOException {
+        Files.createDirectories(snapshotFile.getParent());
+        Files.write(snapshotFile, new byte[]{1, 2, 3});
+
+        assertTrue(snapshotStore.load().isEmpty());
+    }
+
+    @Test
+    @DisplayName("save(), should not write anything when persistence is disabled")
+    void save_should_not_write_anything_when_persistence_is_disabled() {
+        ReflectionTestUtils.setField(snapshotStore, "persistenceEnabled", false);
+
+        snapshotStore.save(ExchangeRateSnapshot.builder()
+                .add(ExchangeFixtures.getExchangeDataModel())
+                .build(1), Instant.now());
+
+        assertFalse(Files.exists(snapshotFile));
+        assertTrue(snapshotStore.load().isEmpty());
+    }
+}
@@ -0,0 +1,216 @@
+package com.finance.transactionmanager.rest.cache;
+
+import com.finance.transactionmanager.rest.response.ExchangeDataModel;
+import com.finance.transactionmanager.setup.fixtures.ExchangeFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangeRateSnapshotTests {
+    private static final LocalDate MARCH = LocalDate.parse("1999-03-31");
+    private static final LocalDate JUNE = LocalDate.parse("1999-06-30");
+    private static final LocalDate SEPTEMBER = LocalDate.parse("1999-09-30");
+
+    @Test
+    @DisplayName("findLatest(), should return the most recent rate on or before the given date")
+    void findLatest_should_return_the_most_recent_rate_on_or_before_the_given_date() {
+        var snapshot = ExchangeRateSnapshot.builder()
+                .addAll(List.of(getRate(MARCH, "1.1"), getRate(JUNE, "1.2"), getRate(SEPTEMBER, "1.3")))
+                .build(1);
+
+        var result = snapshot.findLatest(ExchangeFixtures.COUNTRY_CURRENCY, LocalDate.parse("1999-08-15"),
+                LocalDate.parse("1999-02-15"));
+
+        assertTrue(result.isPresent());
+        assertEquals(JUNE, result.get().getRecordDate());
+        assertEquals(new BigDecimal("1.2"), result.get().getExchangeRate());
+    }
+
+    @Test
+    @DisplayName("findLatest(), should include a rate published on the given date")
+    void findLatest_should_include_a_rate_published_on_the_given_date() {
+        var snapshot = ExchangeRateSnapshot.builder()
+                .addAll(List.of(getRate(MARCH, "1.1"), getRate(JUNE, "1.2")))
+                .build(1);
+
+        var result = snapshot.findLatest(ExchangeFixtures.COUNTRY_CURRENCY, JUNE, MARCH);
+
+        assertTrue(result.isPresent());
+        assertEquals(JUNE, result.get().getRecordDate());
+    }
+
+    @Test
+    @DisplayName("findLatest(), should return empty when the latest rate is not after the window start")
+    void findLatest_should_return_empty_when_the_latest_rate_is_not_after_the_window_start() {
+        var snapshot = ExchangeRateSnapshot.builder()
+                .add(getRate(MARCH, "1.1"))
+                .build(1);
+
+        var result = snapshot.findLatest(ExchangeFixtures.COUNTRY_CURRENCY, SEPTEMBER, MARCH);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("findLatest(), should return empty when every rate is after the given date")
+    void findLatest_should_return_empty_when_every_rate_is_after_the_given_date() {
+        var snapshot = ExchangeRateSnapshot.builder()
+                .add(getRate(SEPTEMBER, "1.3"))
+                .build(1);
+
+        var result = snapshot.findLatest(ExchangeFixtures.COUNTRY_CURRENCY, JUNE, MARCH);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("findLatest(), should return empty when the currency is unknown")
+    void findLatest_should_return_empty_when_the_currency_is_unknown() {
+        var snapshot = ExchangeRateSnapshot.builder()
+                .add(getRate(JUNE, "1.2"))
+                .build(1);
+
+        var result = snapshot.findLatest("Unknown-Currency", JUNE, MARCH);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("build(), should count repeated entries for the same currency and date only once")
+    void build_should_count_repeated_entries_for_the_same_currency_and_date_only_once() {
+        assertTrue(ExchangeRateSnapshot.empty().isEmpty());
+
+        var snapshot = ExchangeRateSnapshot.builder()
+                .addAll(List.of(getRate(JUNE, "1.2"), getRate(JUNE, "1.2"), getRate(SEPTEMBER, "1.3")))
+                .build(1);
+
+        assertFalse(snapshot.isEmpty());
+        assertEquals(2, snapshot.size());
+        assertEquals(1, snapshot.getGeneration());
+    }
+
+    @Test
+    @DisplayName("getLatestRecordDate(), should track the newest record date across currencies")
+    void getLatestRecordDate_should_track_the_newest_record_date_across_currencies() {
+        assertTrue(ExchangeRateSnapshot.empty().getLatestRecordDate().isEmpty());
+
+        var otherCurrency = getRate(SEPTEMBER, "4.2");
+        otherCurrency.setCountryCurrencyDescription("Other-Currency");
+
+        var snapshot = ExchangeRateSnapshot.builder()
+                .addAll(List.of(getRate(JUNE, "1.2"), otherCurrency, getRate(MARCH, "1.1")))
+                .build(1);
+
+        assertEquals(SEPTEMBER, snapshot.getLatestRecordDate().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("toBuilder(), should produce a new generation without changing the original snapshot")
+    void toBuilder_should_produce_a_new_generation_without_changing_the_original_snapshot() {
+        var original = ExchangeRateSnapshot.builder()
+                .add(getRate(JUNE, "1.2"))
+                .build(1);
+
+        var next = original.toBuilder()
+                .add(getRate(SEPTEMBER, "1.3"))
+                .build(2);
+
+        assertEquals(1, original.size());
+        assertEquals(JUNE, original.getLatestRecordDate().orElseThrow());
+        assertTrue(original.findLatest(ExchangeFixtures.COUNTRY_CURRENCY, SEPTEMBER, MARCH)
+                .map(rate -> rate.getRecordDate().equals(JUNE))
+                .orElse(false));
+
+        assertEquals(2, next.size());
+        assertEquals(2, next.getGeneration());
+        assertEquals(SEPTEMBER, next.findLatest(ExchangeFixtures.COUNTRY_CURRENCY, SEPTEMBER, MARCH)
+                .orElseThrow()
+                .getRecordDate());
+    }
+
+    @Test
+    @DisplayName("findLatest(), should rebuild the original labels and the exact rate including its scale")
+    void findLatest_should_rebuild_the_original_labels_and_the_exact_rate_including_its_scale() {
+        var rate = getRate(JUNE, "5.5300");
+        rate.setOriginatingCountry("Country");
+        rate.setCurrencyLabel("Currency");
+
+        var snapshot = ExchangeRateSnapshot.builder()
+                .add(rate)
+                .add(getRate(MARCH, "-0.000001"))
+                .build(1);
+
+        var result = snapshot.findLatest(ExchangeFixtures.COUNTRY_CURRENCY, SEPTEMBER, MARCH).orElseThrow();
+
+        assertEquals(rate, result);
+        assertNotSame(rate, result);
+        assertEquals(4, result.getExchangeRate().scale());
+        assertEquals(new BigDecimal("-0.000001"), snapshot.findLatest(ExchangeFixtures.COUNTRY_CURRENCY, MARCH,
+                MARCH.minusMonths(6)).orElseThrow().getExchangeRate());
+    }
+
+    @Test
+    @DisplayName("build(), should skip entries without an exchange rate")
+    void build_should_skip_entries_without_an_exchange_rate() {
+        var withoutRate = getRate(JUNE, "1.2");
+        withoutRate.setExchangeRate(null);
+
+        var snapshot = ExchangeRateSnapshot.builder()
+                .addAll(List.of(withoutRate, getRate(MARCH, "1.1")))
+                .build(1);
+
+        assertEquals(1, snapshot.size());
+        assertEquals(MARCH, snapshot.findLatest(ExchangeFixtures.COUNTRY_CURRENCY, SEPTEMBER, MARCH.minusDays(1))
+                .orElseThrow()
+                .getRecordDate());
+    }
+
+    @Test
+    @DisplayName("resolveCurrency(), should accept case variants, surrounding spaces and unambiguous ISO codes")
+    void resolveCurrency_should_accept_case_variants_surrounding_spaces_and_unambiguous_ISO_codes() {
+        var snapshot = ExchangeRateSnapshot.builder()
+                .add(getBrazilianRate("Brazil-Real"))
+                .build(1);
+
+        assertEquals("Brazil-Real", snapshot.resolveCurrency("  BRAZIL-real ").orElseThrow());
+        assertEquals("Brazil-Real", snapshot.resolveCurrency("brl").orElseThrow());
+        assertEquals(new BigDecimal("5.1"), snapshot.findLatest("BRL", SEPTEMBER, MARCH)
+                .orElseThrow()
+                .getExchangeRate());
+        assertTrue(snapshot.resolveCurrency("Unknown-Currency").isEmpty());
+    }
+
+    @Test
+    @DisplayName("resolveCurrency(), should not register an ISO code shared by several currencies")
+    void resolveCurrency_should_not_register_an_ISO_code_shared_by_several_currencies() {
+        var snapshot = ExchangeRateSnapshot.builder()
+                .add(getBrazilianRate("Brazil-Real"))
+                .add(getBrazilianRate("Brasil-Real"))
+                .build(1);
+
+        assertTrue(snapshot.resolveCurrency("BRL").isEmpty());
+        assertEquals("Brasil-Real", snapshot.resolveCurrency("brasil-real").orElseThrow());
+    }
+
+    private static ExchangeDataModel getBrazilianRate(String description) {
+        var model = getRate(JUNE, "5.1");
+        model.setCountryCurrencyDescription(description);
+        model.setOriginatingCountry("Brazil");
+        model.setCurrencyLabel("Real");
+
+        return model;
+    }
+
+    private static ExchangeDataModel getRate(LocalDate recordDate, String rate) {
+        var model = ExchangeFixtures.getExchangeDataModel();
+        model.setRecordDate(recordDate);
+        model.setExchangeRate(new BigDecimal(rate));
+
+        return model;
+    }
+}
@@ -0,0 +1,34 @@
+package com.finance.transactionmanager.rest.cache;
+
+import com.finance.transactionmanager.setup.fixtures.ExchangeFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LastKnownRatesCacheTests {
+    private final LastKnownRatesCache lastKnownRatesCache = new LastKnownRatesCache(10);
+
+    @Test
+    @DisplayName("find(), should return the recorded response marked as stale")
+    void find_should_return_the_recorded_response_marked_as_stale() {
+        var response = ExchangeFixtures.getExchangeApiResponseModel();
+
+        lastKnownRatesCache.record("Brazil-Real|2024-03-15", response);
+
+        var result = lastKnownRatesCache.find("Brazil-Real|2024-03-15");
+
+        assertTrue(result.isPresent());
+        assertTrue(result.get().isStale());
+        assertEquals(response.getData(), result.get().getData());
+        assertFalse(response.isStale());
+    }
+
+    @Test
+    @DisplayName("find(), should return empty when nothing was recorded for the key")
+    void find_should_return_empty_when_nothing_was_recorded_for_the_key() {
+        lastKnownRatesCache.record("Brazil-Real|2024-03-15", ExchangeFixtures.getExchangeApiResponseModel());
+
+        assertTrue(lastKnownRatesCache.find("Brazil-Real|2024-04-15").isEmpty());
+    }
+}
@@ -0,0 +1,47 @@
+package com.finance.transactionmanager.rest.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NegativeLookupCacheTests {
+    private static final String LOOKUP_KEY = "Brazil-Real|2024-03-15";
+
+    @Test
+    @DisplayName("isKnownMissing(), should only report recorded lookups")
+    void isKnownMissing_should_only_report_recorded_lookups() {
+        var negativeLookupCache = new NegativeLookupCache(60000, 10);
+
+        assertFalse(negativeLookupCache.isKnownMissing(LOOKUP_KEY));
+
+        negativeLookupCache.recordMissing(LOOKUP_KEY);
+
+        assertTrue(negativeLookupCache.isKnownMissing(LOOKUP_KEY));
+        assertFalse(negativeLookupCache.isKnownMissing("Brazil-Real|2024-03-16"));
+    }
+
+    @Test
+    @DisplayName("isKnownMissing(), should forget recorded lookups once their time to live has elapsed")
+    void isKnownMissing_should_forget_recorded_lookups_once_their_time_to_live_has_elapsed()
+            throws InterruptedException {
+        var negativeLookupCache = new NegativeLookupCache(50, 10);
+
+        negativeLookupCache.recordMissing(LOOKUP_KEY);
+
+        Thread.sleep(100);
+
+        assertFalse(negativeLookupCache.isKnownMissing(LOOKUP_KEY));
+    }
+
+    @Test
+    @DisplayName("invalidateAll(), should forget every recorded lookup")
+    void invalidateAll_should_forget_every_recorded_lookup() {
+        var negativeLookupCache = new NegativeLookupCache(60000, 10);
+
+        negativeLookupCache.recordMissing(LOOKUP_KEY);
+        negativeLookupCache.invalidateAll();
+
+        assertFalse(negativeLookupCache.isKnownMissing(LOOKUP_KEY));
+    }
+}
@@ -0,0 +1,89 @@
+package com.finance.transactionmanager.rest.decoders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.transactionmanager.rest.response.ExchangeDataModel;
+import com.finance.transactionmanager.rest.response.Meta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangePageDecoderTests {
+    private static final String PAGE = """
+            {"data":[
+              {"record_date":"2024-03-31","country":"Brazil","currency":"Real","country_currency_desc":"Brazil-Real",
+               "exchange_rate":"4.977"},
+              {"record_date":"2024-06-30","country":"Brazil","currency":"Real","country_currency_desc":"Brazil-Real",
+               "exchange_rate":"5.553","extra":{"data":[1,2]}}
+            ],
+            "meta":{"count":2,"labels":{"record_date":"Record Date"},"total-count":5,"total-pages":3},
+            "links":{"self":"&page%5Bnumber%5D=1","next":"&page%5Bnumber%5D=2"}}
+            """;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    @DisplayName("decode(), should emit every row and the meta regardless of how the body is split")
+    void decode_should_emit_every_row_and_the_meta_regardless_of_how_the_body_is_split() {
+        var bytes = PAGE.getBytes(StandardCharsets.UTF_8);
+        var meta = new AtomicReference<Meta>();
+        var decoder = new ExchangePageDecoder(objectMapper, meta::set);
+        var rows = new ArrayList<ExchangeDataModel>();
+
+        for (var value : bytes) {
+            rows.addAll(decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(new byte[]{value})));
+        }
+
+        rows.addAll(decoder.complete());
+
+        assertEquals(2, rows.size());
+        assertEquals(LocalDate.parse("2024-03-31"), rows.getFirst().getRecordDate());
+        assertEquals(new BigDecimal("4.977"), rows.getFirst().getExchangeRate());
+        assertEquals("Brazil-Real", rows.getFirst().getCountryCurrencyDescription());
+        assertEquals("Brazil", rows.get(1).getOriginatingCountry());
+        assertEquals("Real", rows.get(1).getCurrencyLabel());
+        assertEquals(3, meta.get().getTotalPages());
+        assertEquals(5, meta.get().getTotalCount());
+    }
+
+    @Test
+    @DisplayName("decode(), should emit rows as soon as each one is complete")
+    void decode_should_emit_rows_as_soon_as_each_one_is_complete() {
+        var firstRowEnd = PAGE.indexOf('}') + 1;
+        var decoder = new ExchangePageDecoder(objectMapper, meta -> {
+        });
+
+        var firstChunk = decoder.decode(wrap(PAGE.substring(0, firstRowEnd)));
+        var secondChunk = decoder.decode(wrap(PAGE.substring(firstRowEnd)));
+
+        assertEquals(1, firstChunk.size());
+        assertEquals(1, secondChunk.size());
+        assertEquals(List.of(), decoder.complete());
+    }
+
+    @Test
+    @DisplayName("complete(), should fail when the body ends in the middle of the document")
+    void complete_should_fail_when_the_body_ends_in_the_middle_of_the_document() {
+        var decoder = new ExchangePageDecoder(objectMapper, meta -> {
+        });
+
+        decoder.decode(wrap(PAGE.substring(0, PAGE.length() / 2)));
+
+        assertThrows(UncheckedIOException.class, decoder::complete);
+    }
+
+    private static DataBuffer wrap(String value) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,23 +1,53 @@
 package com.finance.transactionmanager.rest.gateways;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.finance.transactionmanager.exceptions.custom.BadRequestException;
 import com.finance.transactionmanager.exceptions.custom.InternalServerErrorException;
+import com.finance.transactionmanager.exceptions.custom.ServiceUnavailableException;
+import com.finance.transactionmanager.rest.cache.ExchangeRateSnapshot;
+import com.finance.transactionmanager.rest.cache.ExchangeRateSnapshotStore;
+import com.finance.transactionmanager.rest.cache.LastKnownRatesCache;
+import com.finance.transactionmanager.rest.cache.NegativeLookupCache;
 import com.finance.transactionmanager.rest.response.ExchangeApiResponseModel;
-import com.finance.transactionmanager.rest.response.ExchangeDataModel;
 import com.finance.transactionmanager.setup.TestBase;
 import com.finance.transactionmanager.setup.fixtures.ExchangeFixtures;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,6 +55,26 @@ import static org.mockito.Mockito.*;
 class FiscalDataGatewayTests extends TestBase {
     @Mock
     WebClient webClientMock;
+    @Spy
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    @Mock
+    ExchangeRateSnapshotStore snapshotStoreMock;
+    @Mock
+    NegativeLookupCache negativeLookupCacheMock;
+    @Mock
+    LastKnownRatesCache lastKnownRatesCacheMock;
+    @Spy
+    CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    @Spy
+    RateLimiterRegistry rateLimiterRegistry = RateLimiterRegistry.of(RateLimiterConfig.custom()
+            .limitForPeriod(50)
+            .limitRefreshPeriod(Duration.ofMinutes(1))
+            .timeoutDuration(Duration.ZERO)
+            .build());
+    @Spy
+    BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+    @Spy
+    Scheduler blockingTaskScheduler = Schedulers.immediate();
     @InjectMocks
     private FiscalDataGateway fiscalDataGateway;
 
@@ -33,6 +83,9 @@ class FiscalDataGatewayTests extends TestBase {
         ReflectionTestUtils.setField(fiscalDataGateway, "baseUrl", "http://test.ar");
         ReflectionTestUtils.setField(fiscalDataGateway, "maxConnectionAttempts", 3);
         ReflectionTestUtils.setField(fiscalDataGateway, "timeoutBetweenAttemptsInMillis", 1000);
+        ReflectionTestUtils.setField(fiscalDataGateway, "requestTimeoutInMillis", 5000L);
+        ReflectionTestUtils.setField(fiscalDataGateway, "fullRefreshIntervalInMillis", 86400000L);
+        ReflectionTestUtils.setField(fiscalDataGateway, "refreshPageParallelism", 4);
         ReflectionTestUtils.setField(fiscalDataGateway, "webClient", webClientMock);
     }
 
@@ -105,9 +158,9 @@ class FiscalDataGatewayTests extends TestBase {
                 .when(requestHeadersSpecMock)
                 .retrieve();
 
-        doReturn(Mono.just(response))
+        doReturn(toJsonBody(response))
                 .when(responseSpecMock)
-                .bodyToMono(ExchangeApiResponseModel.class);
+                .bodyToFlux(DataBuffer.class);
 
         fiscalDataGateway.manualCacheRefresh();
 
@@ -138,9 +191,9 @@ class FiscalDataGatewayTests extends TestBase {
                 .when(requestHeadersSpecMock)
                 .retrieve();
 
-        doReturn(Mono.just(response))
+        doReturn(toJsonBody(response))
                 .when(responseSpecMock)
-                .bodyToMono(ExchangeApiResponseModel.class);
+                .bodyToFlux(DataBuffer.class);
 
         fiscalDataGateway.scheduledCacheRefresh();
 
@@ -178,10 +231,13 @@ class FiscalDataGatewayTests extends TestBase {
                 .when(requestHeadersSpecMock)
                 .retrieve();
 
-        doReturn(Mono.just(firstResponse))
-                .doReturn(Mono.just(secondResponse))
+        var firstBody = toJsonBody(firstResponse);
+        var secondBody = toJsonBody(secondResponse);
+
+        doReturn(firstBody)
+                .doReturn(secondBody)
                 .when(responseSpecMock)
-                .bodyToMono(ExchangeApiResponseModel.class);
+                .bodyToFlux(DataBuffer.class);
 
         fiscalDataGateway.scheduledCacheRefresh();
 
@@ -189,6 +245,64 @@ class FiscalDataGatewayTests extends TestBase {
                 .get();
     }
 
+    @Test
+    @DisplayName("scheduledCacheRefresh(), should fetch every remaining page announced by the first page")
+    void scheduledCacheRefresh_should_fetch_every_remaining_page_announced_by_the_first_page() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+
+        var response = ExchangeFixtures.getExchangeApiResponseModel();
+        response.getMeta().setTotalPages(3L);
+
+        var requestHeadersUriSpecMock = mockRequestChain(Mono.just(response));
+
+        fiscalDataGateway.scheduledCacheRefresh();
+
+        var uriCaptor = ArgumentCaptor.forClass(String.class);
+        verify(requestHeadersUriSpecMock, times(3)).uri(uriCaptor.capture());
+
+        assertTrue(uriCaptor.getAllValues().getFirst().contains("page[number]=1&"));
+        assertTrue(uriCaptor.getAllValues().stream().anyMatch(uri -> uri.contains("page[number]=2&")));
+        assertTrue(uriCaptor.getAllValues().stream().anyMatch(uri -> uri.contains("page[number]=3&")));
+    }
+
+    @Test
+    @DisplayName("scheduledCacheRefresh(), should throw InternalServerErrorException when a remaining page fails")
+    void scheduledCacheRefresh_should_throw_InternalServerErrorException_when_a_remaining_page_fails() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+        ReflectionTestUtils.setField(fiscalDataGateway, "maxConnectionAttempts", 0);
+
+        var firstResponse = ExchangeFixtures.getExchangeApiResponseModel();
+        firstResponse.getMeta().setTotalPages(2L);
+
+        var requestHeadersUriSpecMock = mock(WebClient.RequestHeadersUriSpec.class);
+        var requestHeadersSpecMock = mock(WebClient.RequestHeadersSpec.class);
+        var responseSpecMock = mock(WebClient.ResponseSpec.class);
+
+        doReturn(requestHeadersUriSpecMock)
+                .when(webClientMock)
+                .get();
+
+        doReturn(requestHeadersSpecMock)
+                .when(requestHeadersUriSpecMock)
+                .uri(any(String.class));
+
+        doReturn(responseSpecMock)
+                .when(requestHeadersSpecMock)
+                .retrieve();
+
+        var firstBody = toJsonBody(firstResponse);
+
+        doReturn(firstBody)
+                .doReturn(Flux.error(new RuntimeException()))
+                .when(responseSpecMock)
+                .bodyToFlux(DataBuffer.class);
+
+        var ex = assertThrows(InternalServerErrorException.class, () -> fiscalDataGateway.scheduledCacheRefresh());
+
+        assertEquals("Failed to fetch data from API. The server may be unavailable or not responding.",
+                ex.getMessage());
+    }
+
     @Test
     @DisplayName("scheduledCacheRefresh(), should throw BadRequestException when unable to retrieve data from server")
     void scheduledCacheRefresh_should_throw_BadRequestException_when_unable_to_retrieve_data_from_server() {
@@ -210,9 +324,9 @@ class FiscalDataGatewayTests extends TestBase {
                 .when(requestHeadersSpecMock)
                 .retrieve();
 
-        doReturn(Mono.empty())
+        doReturn(Flux.empty())
                 .when(responseSpecMock)
-                .bodyToMono(ExchangeApiResponseModel.class);
+                .bodyToFlux(DataBuffer.class);
 
         try {
             fiscalDataGateway.scheduledCacheRefresh();
@@ -225,6 +339,224 @@ class FiscalDataGatewayTests extends TestBase {
                 .get();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("scheduledCacheRefresh(), should only request newer entries when a full refresh is not due")
+    void scheduledCacheRefresh_should_only_request_newer_entries_when_a_full_refresh_is_not_due() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+        ReflectionTestUtils.setField(fiscalDataGateway, "lastFullRefresh", Instant.now());
+
+        var cachedField = (AtomicReference<ExchangeRateSnapshot>)
+                ReflectionTestUtils.getField(fiscalDataGateway, "cachedData");
+
+        assert cachedField != null;
+        cachedField.set(ExchangeRateSnapshot.builder()
+                .add(ExchangeFixtures.getExchangeDataModel())
+                .build(1));
+
+        var requestHeadersUriSpecMock = mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        fiscalDataGateway.scheduledCacheRefresh();
+
+        var uriCaptor = ArgumentCaptor.forClass(String.class);
+        verify(requestHeadersUriSpecMock, times(1)).uri(uriCaptor.capture());
+
+        assertTrue(uriCaptor.getValue().endsWith("&filter=record_date:gt:" + ExchangeFixtures.EXCHANGE_DATE));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("scheduledCacheRefresh(), should reload everything when a full refresh is due")
+    void scheduledCacheRefresh_should_reload_everything_when_a_full_refresh_is_due() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+        ReflectionTestUtils.setField(fiscalDataGateway, "lastFullRefresh", Instant.now().minus(Duration.ofDays(2)));
+
+        var cachedField = (AtomicReference<ExchangeRateSnapshot>)
+                ReflectionTestUtils.getField(fiscalDataGateway, "cachedData");
+
+        assert cachedField != null;
+        cachedField.set(ExchangeRateSnapshot.builder()
+                .add(ExchangeFixtures.getExchangeDataModel())
+                .build(1));
+
+        var requestHeadersUriSpecMock = mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        fiscalDataGateway.scheduledCacheRefresh();
+
+        var uriCaptor = ArgumentCaptor.forClass(String.class);
+        verify(requestHeadersUriSpecMock, times(1)).uri(uriCaptor.capture());
+
+        assertFalse(uriCaptor.getValue().contains("filter="));
+        assertNotNull(ReflectionTestUtils.getField(fiscalDataGateway, "lastFullRefresh"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("manualCacheRefresh(), should always reload everything")
+    void manualCacheRefresh_should_always_reload_everything() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+        ReflectionTestUtils.setField(fiscalDataGateway, "lastFullRefresh", Instant.now());
+
+        var cachedField = (AtomicReference<ExchangeRateSnapshot>)
+                ReflectionTestUtils.getField(fiscalDataGateway, "cachedData");
+
+        assert cachedField != null;
+        cachedField.set(ExchangeRateSnapshot.builder()
+                .add(ExchangeFixtures.getExchangeDataModel())
+                .build(1));
+
+        var requestHeadersUriSpecMock = mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        fiscalDataGateway.manualCacheRefresh();
+
+        var uriCaptor = ArgumentCaptor.forClass(String.class);
+        verify(requestHeadersUriSpecMock, times(1)).uri(uriCaptor.capture());
+
+        assertFalse(uriCaptor.getValue().contains("filter="));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("manualCacheRefresh(), should publish a new snapshot that only holds the reloaded entries")
+    void manualCacheRefresh_should_publish_a_new_snapshot_that_only_holds_the_reloaded_entries() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+
+        var removedEntry = ExchangeFixtures.getExchangeDataModel();
+        removedEntry.setCountryCurrencyDescription("Removed-Currency");
+
+        var cachedField = (AtomicReference<ExchangeRateSnapshot>)
+                ReflectionTestUtils.getField(fiscalDataGateway, "cachedData");
+
+        assert cachedField != null;
+        var previousSnapshot = ExchangeRateSnapshot.builder()
+                .add(removedEntry)
+                .build(7);
+        cachedField.set(previousSnapshot);
+
+        mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        fiscalDataGateway.manualCacheRefresh();
+
+        var currentSnapshot = fiscalDataGateway.getCurrentSnapshot();
+
+        assertNotSame(previousSnapshot, currentSnapshot);
+        assertEquals(8, currentSnapshot.getGeneration());
+        assertEquals(1, currentSnapshot.size());
+        assertEquals(1, previousSnapshot.size());
+        assertTrue(currentSnapshot.findLatest("Removed-Currency", ExchangeFixtures.EXCHANGE_DATE,
+                ExchangeFixtures.EXCHANGE_DATE.minusMonths(6)).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("scheduledCacheRefresh(), should keep the current snapshot when no newer entries exist")
+    void scheduledCacheRefresh_should_keep_the_current_snapshot_when_no_newer_entries_exist() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+        ReflectionTestUtils.setField(fiscalDataGateway, "lastFullRefresh", Instant.now());
+
+        var cachedField = (AtomicReference<ExchangeRateSnapshot>)
+                ReflectionTestUtils.getField(fiscalDataGateway, "cachedData");
+
+        assert cachedField != null;
+        var previousSnapshot = spy(ExchangeRateSnapshot.builder()
+                .add(ExchangeFixtures.getExchangeDataModel())
+                .build(3));
+        cachedField.set(previousSnapshot);
+
+        var emptyResponse = ExchangeFixtures.getExchangeApiResponseModel();
+        emptyResponse.setData(List.of());
+        emptyResponse.getMeta().setTotalPages(0);
+
+        mockRequestChain(Mono.just(emptyResponse));
+
+        fiscalDataGateway.scheduledCacheRefresh();
+
+        assertSame(previousSnapshot, fiscalDataGateway.getCurrentSnapshot());
+        verify(previousSnapshot, times(0))
+                .toBuilder();
+        verify(snapshotStoreMock, times(0))
+                .save(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("scheduledCacheRefresh(), should merge newer entries into the current snapshot")
+    void scheduledCacheRefresh_should_merge_newer_entries_into_the_current_snapshot() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+        ReflectionTestUtils.setField(fiscalDataGateway, "lastFullRefresh", Instant.now());
+
+        var cachedField = (AtomicReference<ExchangeRateSnapshot>)
+                ReflectionTestUtils.getField(fiscalDataGateway, "cachedData");
+
+        assert cachedField != null;
+        cachedField.set(ExchangeRateSnapshot.builder()
+                .add(ExchangeFixtures.getExchangeDataModel())
+                .build(3));
+
+        var newerEntry = ExchangeFixtures.getExchangeDataModel();
+        newerEntry.setRecordDate(ExchangeFixtures.EXCHANGE_DATE.plusMonths(3));
+
+        var response = ExchangeFixtures.getExchangeApiResponseModel();
+        response.setData(List.of(newerEntry));
+
+        mockRequestChain(Mono.just(response));
+
+        fiscalDataGateway.scheduledCacheRefresh();
+
+        var currentSnapshot = fiscalDataGateway.getCurrentSnapshot();
+
+        assertEquals(4, currentSnapshot.getGeneration());
+        assertEquals(2, currentSnapshot.size());
+        assertEquals(newerEntry.getRecordDate(), currentSnapshot.getLatestRecordDate().orElseThrow());
+        verify(snapshotStoreMock, times(1))
+                .save(same(currentSnapshot), any());
+    }
+
+    @Test
+    @DisplayName("loadPersistedSnapshot(), should publish the persisted snapshot when cache is enabled")
+    void loadPersistedSnapshot_should_publish_the_persisted_snapshot_when_cache_is_enabled() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+
+        var persistedSnapshot = ExchangeRateSnapshot.builder()
+                .add(ExchangeFixtures.getExchangeDataModel())
+                .build(5);
+        var lastFullRefresh = Instant.now().minus(Duration.ofHours(1));
+
+        doReturn(Optional.of(new ExchangeRateSnapshotStore.PersistedSnapshot(persistedSnapshot, lastFullRefresh)))
+                .when(snapshotStoreMock)
+                .load();
+
+        fiscalDataGateway.loadPersistedSnapshot();
+
+        assertSame(persistedSnapshot, fiscalDataGateway.getCurrentSnapshot());
+        assertEquals(lastFullRefresh, ReflectionTestUtils.getField(fiscalDataGateway, "lastFullRefresh"));
+        verify(webClientMock, times(0))
+                .get();
+    }
+
+    @Test
+    @DisplayName("loadPersistedSnapshot(), should not read the persisted snapshot when cache is disabled")
+    void loadPersistedSnapshot_should_not_read_the_persisted_snapshot_when_cache_is_disabled() {
+        fiscalDataGateway.loadPersistedSnapshot();
+
+        verify(snapshotStoreMock, times(0))
+                .load();
+        assertTrue(fiscalDataGateway.getCurrentSnapshot().isEmpty());
+    }
+
+    @Test
+    @DisplayName("manualCacheRefresh(), should persist the published snapshot")
+    void manualCacheRefresh_should_persist_the_published_snapshot() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+
+        mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        fiscalDataGateway.manualCacheRefresh();
+
+        verify(snapshotStoreMock, times(1))
+                .save(eq(fiscalDataGateway.getCurrentSnapshot()), any(Instant.class));
+    }
+
     @Test
     @DisplayName("getExchangeData(), should throw IllegalArgumentException when targetCurrency is empty")
     void getExchangeData_should_throw_IllegalArgumentException_when_targetCurrency_is_empty() {
@@ -319,16 +651,15 @@ class FiscalDataGatewayTests extends TestBase {
     @SuppressWarnings("unchecked")
     @DisplayName("getExchangeData(), should execute correctly when cache is disabled and has cached data")
     void getExchangeData_should_execute_correctly_when_cache_is_disabled_and_has_cached_data() {
-        var cachedField = (AtomicReference<HashSet<ExchangeDataModel>>)
+        var cachedField = (AtomicReference<ExchangeRateSnapshot>)
                 ReflectionTestUtils.getField(fiscalDataGateway, "cachedData");
 
         assert cachedField != null;
-        var data = new HashSet<ExchangeDataModel>();
-
         var responseData = ExchangeFixtures.getExchangeDataModel();
-        data.add(responseData);
 
-        cachedField.set(data);
+        cachedField.set(ExchangeRateSnapshot.builder()
+                .add(responseData)
+                .build(1));
 
         var date = LocalDateTime.now();
         var targetCurrency = "Brazil-Real";
@@ -380,12 +711,12 @@ class FiscalDataGatewayTests extends TestBase {
     void getExchangeData_should_execute_correctly_when_cache_is_enabled_and_has_no_cached_data() {
         ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
 
-        var cachedField = (AtomicReference<HashSet<ExchangeDataModel>>)
+        var cachedField = (AtomicReference<ExchangeRateSnapshot>)
                 ReflectionTestUtils.getField(fiscalDataGateway, "cachedData");
 
         assert cachedField != null;
 
-        cachedField.set(new HashSet<>());
+        cachedField.set(ExchangeRateSnapshot.empty());
 
         var date = LocalDateTime.now();
         var targetCurrency = "Brazil-Real";
@@ -422,23 +753,216 @@ class FiscalDataGatewayTests extends TestBase {
     void getExchangeData_should_execute_correctly_when_cache_is_enabled_and_has_cached_data() {
         ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
 
-        var cachedField = (AtomicReference<HashSet<ExchangeDataModel>>)
+        var cachedField = (AtomicReference<ExchangeRateSnapshot>)
                 ReflectionTestUtils.getField(fiscalDataGateway, "cachedData");
 
         assert cachedField != null;
-        var data = new HashSet<ExchangeDataModel>();
-
         var responseData = ExchangeFixtures.getExchangeDataModel();
-        data.add(responseData);
 
-        cachedField.set(data);
+        cachedField.set(ExchangeRateSnapshot.builder()
+                .add(responseData)
+                .build(1));
 
         var response = fiscalDataGateway.getExchangeData(
                 ExchangeFixtures.COUNTRY_CURRENCY,
-                responseData.getRecordDate().atStartOfDay().minusMonths(6)
+                responseData.getRecordDate().atStartOfDay().plusMonths(5)
         );
 
         assertNotNull(response);
+        assertTrue(response.isPresent());
+        assertEquals(1, response.get().getData().size());
+        assertEquals(responseData, response.get().getData().getFirst());
+
+        verify(webClientMock, times(0))
+                .get();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("getExchangeData(), should match cached data ignoring case and surrounding spaces")
+    void getExchangeData_should_match_cached_data_ignoring_case_and_surrounding_spaces() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+
+        var cachedField = (AtomicReference<ExchangeRateSnapshot>)
+                ReflectionTestUtils.getField(fiscalDataGateway, "cachedData");
+
+        assert cachedField != null;
+        var responseData = ExchangeFixtures.getExchangeDataModel();
+
+        cachedField.set(ExchangeRateSnapshot.builder()
+                .add(responseData)
+                .build(1));
+
+        var response = fiscalDataGateway.getExchangeData(
+                "  " + ExchangeFixtures.COUNTRY_CURRENCY.toUpperCase() + " ",
+                responseData.getRecordDate().atStartOfDay()
+        );
+
+        assertTrue(response.isPresent());
+        assertEquals(responseData, response.get().getData().getFirst());
+
+        verify(webClientMock, times(0))
+                .get();
+    }
+
+    @Test
+    @DisplayName("getExchangeData(), should share one upstream call between concurrent lookups for the same window")
+    void getExchangeData_should_share_one_upstream_call_between_concurrent_lookups_for_the_same_window()
+            throws Exception {
+        var date = LocalDateTime.now();
+        var response = ExchangeFixtures.getExchangeApiResponseModel();
+
+        mockRequestChain(Mono.just(response).delayElement(Duration.ofMillis(300)));
+
+        var executor = Executors.newFixedThreadPool(4);
+        var startSignal = new CountDownLatch(1);
+
+        try {
+            var lookups = IntStream.range(0, 4)
+                    .mapToObj(i -> executor.submit(() -> {
+                        startSignal.await();
+                        return fiscalDataGateway.getExchangeData("brazil-real", date);
+                    }))
+                    .toList();
+
+            startSignal.countDown();
+
+            for (var lookup : lookups) {
+                var result = lookup.get(5, TimeUnit.SECONDS);
+
+                assertTrue(result.isPresent());
+                assertSame(response, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(webClientMock, times(1))
+                .get();
+    }
+
+    @Test
+    @DisplayName("getExchangeData(), should call upstream again once the shared lookup has completed")
+    void getExchangeData_should_call_upstream_again_once_the_shared_lookup_has_completed() {
+        var date = LocalDateTime.now();
+
+        mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        fiscalDataGateway.getExchangeData("Brazil-Real", date);
+        fiscalDataGateway.getExchangeData("Brazil-Real", date);
+
+        verify(webClientMock, times(2))
+                .get();
+    }
+
+    @Test
+    @DisplayName("getExchangeData(), should not call upstream when the lookup is known to have no data")
+    void getExchangeData_should_not_call_upstream_when_the_lookup_is_known_to_have_no_data() {
+        var date = LocalDateTime.parse("2024-09-15T10:00:00");
+
+        doReturn(true)
+                .when(negativeLookupCacheMock)
+                .isKnownMissing("Brazil-Real|2024-03-15");
+
+        var result = fiscalDataGateway.getExchangeData("brazil-real", date);
+
+        assertTrue(result.isEmpty());
+        verify(webClientMock, times(0))
+                .get();
+    }
+
+    @Test
+    @DisplayName("getExchangeData(), should remember lookups for which upstream returned no data")
+    void getExchangeData_should_remember_lookups_for_which_upstream_returned_no_data() {
+        var date = LocalDateTime.parse("2024-09-15T10:00:00");
+        var response = ExchangeFixtures.getExchangeApiResponseModel();
+        response.setData(List.of());
+
+        mockRequestChain(Mono.just(response));
+
+        fiscalDataGateway.getExchangeData("brazil-real", date);
+
+        verify(negativeLookupCacheMock, times(1))
+                .recordMissing("Brazil-Real|2024-03-15");
+    }
+
+    @Test
+    @DisplayName("getExchangeData(), should not remember lookups for which upstream returned data")
+    void getExchangeData_should_not_remember_lookups_for_which_upstream_returned_data() {
+        mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        fiscalDataGateway.getExchangeData("brazil-real", LocalDateTime.now());
+
+        verify(negativeLookupCacheMock, times(0))
+                .recordMissing(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("getExchangeDataReactive(), should emit cached data without calling upstream")
+    void getExchangeDataReactive_should_emit_cached_data_without_calling_upstream() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+
+        var cachedField = (AtomicReference<ExchangeRateSnapshot>)
+                ReflectionTestUtils.getField(fiscalDataGateway, "cachedData");
+
+        assert cachedField != null;
+        var responseData = ExchangeFixtures.getExchangeDataModel();
+
+        cachedField.set(ExchangeRateSnapshot.builder()
+                .add(responseData)
+                .build(1));
+
+        StepVerifier.create(fiscalDataGateway.getExchangeDataReactive(ExchangeFixtures.COUNTRY_CURRENCY,
+                        responseData.getRecordDate().atStartOfDay()))
+                .assertNext(result -> assertEquals(List.of(responseData), result.getData()))
+                .verifyComplete();
+
+        verify(webClientMock, times(0))
+                .get();
+    }
+
+    @Test
+    @DisplayName("getExchangeDataReactive(), should emit upstream data when nothing is cached")
+    void getExchangeDataReactive_should_emit_upstream_data_when_nothing_is_cached() {
+        var response = ExchangeFixtures.getExchangeApiResponseModel();
+
+        mockRequestChain(Mono.just(response));
+
+        StepVerifier.create(fiscalDataGateway.getExchangeDataReactive("Brazil-Real", LocalDateTime.now()))
+                .expectNext(response)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("getExchangeDataReactive(), should emit IllegalArgumentException when targetCurrency has no dash")
+    void getExchangeDataReactive_should_emit_IllegalArgumentException_when_targetCurrency_has_no_dash() {
+        StepVerifier.create(fiscalDataGateway.getExchangeDataReactive("IncorrectTargetCurrency",
+                        LocalDateTime.now()))
+                .expectErrorSatisfies(ex -> {
+                    assertInstanceOf(IllegalArgumentException.class, ex);
+                    assertEquals("Currency input must consist of exactly two parts separated by a dash.",
+                            ex.getMessage());
+                })
+                .verify();
+    }
+
+    @Test
+    @DisplayName("getExchangeDataReactive(), should emit InternalServerErrorException when connection fails")
+    void getExchangeDataReactive_should_emit_InternalServerErrorException_when_connection_fails() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "maxConnectionAttempts", 0);
+
+        mockRequestChain(Mono.error(new RuntimeException()));
+
+        StepVerifier.create(fiscalDataGateway.getExchangeDataReactive("Brazil-Real", LocalDateTime.now()))
+                .expectErrorSatisfies(ex -> {
+                    assertInstanceOf(InternalServerErrorException.class, ex);
+                    assertEquals("The purchase cannot be converted to the target currency. Reason: " +
+                                    "Failed to retrieve fiscal data from the server. The server may be " +
+                                    "unavailable or not responding.",
+                            ex.getMessage());
+                })
+                .verify();
     }
 
     @Test
@@ -477,4 +1001,261 @@ class FiscalDataGatewayTests extends TestBase {
                     ex.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("getExchangeData(), should keep successful lookups as last known rates")
+    void getExchangeData_should_keep_successful_lookups_as_last_known_rates() {
+        var date = LocalDateTime.parse("2024-09-15T10:00:00");
+        var response = ExchangeFixtures.getExchangeApiResponseModel();
+
+        mockRequestChain(Mono.just(response));
+
+        fiscalDataGateway.getExchangeData("brazil-real", date);
+
+        verify(lastKnownRatesCacheMock, times(1))
+                .record("Brazil-Real|2024-03-15", response);
+    }
+
+    @Test
+    @DisplayName("getExchangeData(), should throw ServiceUnavailableException when circuit breaker is open")
+    void getExchangeData_should_throw_ServiceUnavailableException_when_circuit_breaker_is_open() {
+        circuitBreakerRegistry.circuitBreaker(FiscalDataGateway.RESILIENCE_INSTANCE).transitionToOpenState();
+
+        mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        var ex = assertThrows(ServiceUnavailableException.class,
+                () -> fiscalDataGateway.getExchangeData("Brazil-Real", LocalDateTime.now()));
+
+        assertEquals("The purchase cannot be converted to the target currency. Reason: The fiscal data source " +
+                        "is temporarily unavailable after repeated failures. Please try again later.",
+                ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("getExchangeData(), should serve last known rates when circuit breaker is open")
+    void getExchangeData_should_serve_last_known_rates_when_circuit_breaker_is_open() {
+        var date = LocalDateTime.parse("2024-09-15T10:00:00");
+        var lastKnownResponse = ExchangeFixtures.getExchangeApiResponseModel();
+        lastKnownResponse.setStale(true);
+
+        circuitBreakerRegistry.circuitBreaker(FiscalDataGateway.RESILIENCE_INSTANCE).transitionToOpenState();
+
+        mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        doReturn(Optional.of(lastKnownResponse))
+                .when(lastKnownRatesCacheMock)
+                .find("Brazil-Real|2024-03-15");
+
+        var result = fiscalDataGateway.getExchangeData("brazil-real", date);
+
+        assertTrue(result.isPresent());
+        assertTrue(result.get().isStale());
+        assertSame(lastKnownResponse, result.get());
+        verify(lastKnownRatesCacheMock, times(0))
+                .record(any(), any());
+    }
+
+    @Test
+    @DisplayName("getExchangeDataReactive(), should emit ServiceUnavailableException when circuit breaker is open")
+    void getExchangeDataReactive_should_emit_ServiceUnavailableException_when_circuit_breaker_is_open() {
+        circuitBreakerRegistry.circuitBreaker(FiscalDataGateway.RESILIENCE_INSTANCE).transitionToOpenState();
+
+        mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        StepVerifier.create(fiscalDataGateway.getExchangeDataReactive("Brazil-Real", LocalDateTime.now()))
+                .expectError(ServiceUnavailableException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("manualCacheRefresh(), should throw ServiceUnavailableException when circuit breaker is open")
+    void manualCacheRefresh_should_throw_ServiceUnavailableException_when_circuit_breaker_is_open() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+
+        circuitBreakerRegistry.circuitBreaker(FiscalDataGateway.RESILIENCE_INSTANCE).transitionToOpenState();
+
+        mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        assertThrows(ServiceUnavailableException.class, () -> fiscalDataGateway.manualCacheRefresh());
+
+        verify(snapshotStoreMock, times(0))
+                .save(any(), any());
+    }
+
+    @Test
+    @DisplayName("getExchangeData(), should throw ServiceUnavailableException when rate limit is exhausted")
+    void getExchangeData_should_throw_ServiceUnavailableException_when_rate_limit_is_exhausted() {
+        rateLimiterRegistry.rateLimiter(FiscalDataGateway.RESILIENCE_INSTANCE).drainPermissions();
+
+        var requestHeadersUriSpecMock = mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        var ex = assertThrows(ServiceUnavailableException.class,
+                () -> fiscalDataGateway.getExchangeData("Brazil-Real", LocalDateTime.now()));
+
+        assertEquals("The purchase cannot be converted to the target currency. Reason: Too many requests are " +
+                        "waiting for the fiscal data source. Please try again later.",
+                ex.getMessage());
+        verify(requestHeadersUriSpecMock, times(1))
+                .uri(any(String.class));
+    }
+
+    @Test
+    @DisplayName("getExchangeData(), should throw ServiceUnavailableException when too many calls are in flight")
+    void getExchangeData_should_throw_ServiceUnavailableException_when_too_many_calls_are_in_flight() {
+        var bulkhead = bulkheadRegistry.bulkhead(FiscalDataGateway.RESILIENCE_INSTANCE);
+
+        IntStream.range(0, bulkhead.getBulkheadConfig().getMaxConcurrentCalls())
+                .forEach(i -> assertTrue(bulkhead.tryAcquirePermission()));
+
+        mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        assertThrows(ServiceUnavailableException.class,
+                () -> fiscalDataGateway.getExchangeData("Brazil-Real", LocalDateTime.now()));
+
+        bulkhead.onComplete();
+
+        assertTrue(fiscalDataGateway.getExchangeData("Brazil-Real", LocalDateTime.now()).isPresent());
+    }
+
+    @Test
+    @DisplayName("getExchangeData(), should wait for a bulkhead permit up to the configured max wait")
+    void getExchangeData_should_wait_for_a_bulkhead_permit_up_to_the_configured_max_wait() throws Exception {
+        var bulkhead = Bulkhead.of(FiscalDataGateway.RESILIENCE_INSTANCE, BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ofSeconds(5))
+                .build());
+        ReflectionTestUtils.setField(fiscalDataGateway, "bulkhead", bulkhead);
+        assertTrue(bulkhead.tryAcquirePermission());
+
+        mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        try (var executor = Executors.newSingleThreadScheduledExecutor()) {
+            executor.schedule(bulkhead::onComplete, 200, TimeUnit.MILLISECONDS);
+
+            assertTrue(fiscalDataGateway.getExchangeData("Brazil-Real", LocalDateTime.now()).isPresent());
+        }
+
+        assertEquals(1, bulkhead.getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("getExchangeData(), should not take permits reserved for refresh page streams")
+    void getExchangeData_should_not_take_permits_reserved_for_refresh_page_streams() {
+        var refreshBulkhead = bulkheadRegistry.bulkhead(FiscalDataGateway.REFRESH_BULKHEAD_INSTANCE);
+
+        IntStream.range(0, refreshBulkhead.getBulkheadConfig().getMaxConcurrentCalls())
+                .forEach(i -> assertTrue(refreshBulkhead.tryAcquirePermission()));
+
+        mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        assertTrue(fiscalDataGateway.getExchangeData("Brazil-Real", LocalDateTime.now()).isPresent());
+    }
+
+    @Test
+    @DisplayName("getExchangeData(), should release bulkhead permits once upstream calls complete")
+    void getExchangeData_should_release_bulkhead_permits_once_upstream_calls_complete() {
+        var bulkhead = bulkheadRegistry.bulkhead(FiscalDataGateway.RESILIENCE_INSTANCE);
+        var maxConcurrentCalls = bulkhead.getBulkheadConfig().getMaxConcurrentCalls();
+
+        mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        fiscalDataGateway.getExchangeData("Brazil-Real", LocalDateTime.now());
+
+        assertEquals(maxConcurrentCalls, bulkhead.getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("getExchangeData(), should reject currencies missing from the cached dictionary without calling upstream")
+    void getExchangeData_should_reject_currencies_missing_from_the_cached_dictionary_without_calling_upstream() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+
+        var cachedField = (AtomicReference<ExchangeRateSnapshot>)
+                ReflectionTestUtils.getField(fiscalDataGateway, "cachedData");
+
+        assert cachedField != null;
+        cachedField.set(ExchangeRateSnapshot.builder()
+                .add(ExchangeFixtures.getExchangeDataModel())
+                .build(1));
+
+        var ex = assertThrows(BadRequestException.class,
+                () -> fiscalDataGateway.getExchangeData(" Brazil-Real ", LocalDateTime.now()));
+
+        assertEquals("The purchase cannot be converted to the target currency. Reason: Currency 'Brazil-Real' " +
+                "is not available in the fiscal data source.", ex.getMessage());
+        verify(webClientMock, times(0))
+                .get();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("getExchangeData(), should look up an ISO alias upstream using the canonical currency description")
+    void getExchangeData_should_look_up_an_ISO_alias_upstream_using_the_canonical_currency_description() {
+        ReflectionTestUtils.setField(fiscalDataGateway, "cacheEnabled", true);
+
+        var cachedField = (AtomicReference<ExchangeRateSnapshot>)
+                ReflectionTestUtils.getField(fiscalDataGateway, "cachedData");
+
+        var cachedRate = ExchangeFixtures.getExchangeDataModel();
+        cachedRate.setCountryCurrencyDescription("Brazil-Real");
+        cachedRate.setOriginatingCountry("Brazil");
+        cachedRate.setCurrencyLabel("Real");
+
+        assert cachedField != null;
+        cachedField.set(ExchangeRateSnapshot.builder()
+                .add(cachedRate)
+                .build(1));
+
+        var requestHeadersUriSpecMock = mockRequestChain(Mono.just(ExchangeFixtures.getExchangeApiResponseModel()));
+
+        fiscalDataGateway.getExchangeData("brl", LocalDateTime.parse("2024-09-15T10:00:00"));
+
+        var uriCaptor = ArgumentCaptor.forClass(String.class);
+        verify(requestHeadersUriSpecMock, times(1)).uri(uriCaptor.capture());
+
+        assertTrue(uriCaptor.getValue().contains("country_currency_desc:in:(Brazil-Real)"));
+        verify(negativeLookupCacheMock, times(1))
+                .isKnownMissing("Brazil-Real|2024-03-15");
+    }
+
+    private WebClient.RequestHeadersUriSpec<?> mockRequestChain(Mono<ExchangeApiResponseModel> response) {
+        var requestHeadersUriSpecMock = mock(WebClient.RequestHeadersUriSpec.class);
+        var requestHeadersSpecMock = mock(WebClient.RequestHeadersSpec.class);
+        var responseSpecMock = mock(WebClient.ResponseSpec.class);
+
+        doReturn(requestHeadersUriSpecMock)
+                .when(webClientMock)
+                .get();
+
+        doReturn(requestHeadersSpecMock)
+                .when(requestHeadersUriSpecMock)
+                .uri(any(String.class));
+
+        doReturn(responseSpecMock)
+                .when(requestHeadersSpecMock)
+                .retrieve();
+
+        doReturn(response)
+                .when(responseSpecMock)
+                .bodyToMono(ExchangeApiResponseModel.class);
+
+        doReturn(response.flatMapMany(this::toJsonBody))
+                .when(responseSpecMock)
+                .bodyToFlux(DataBuffer.class);
+
+        return requestHeadersUriSpecMock;
+    }
+
+    private Flux<DataBuffer> toJsonBody(ExchangeApiResponseModel response) {
+        try {
+            var json = objectMapper.writeValueAsBytes(response);
+            var chunkSize = 16;
+
+            return Flux.range(0, (json.length + chunkSize - 1) / chunkSize)
+                    .map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(json,
+                            chunk * chunkSize, Math.min(json.length, (chunk + 1) * chunkSize))));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -1,25 +1,53 @@
 package com.finance.transactionmanager.services;
 
+import com.finance.transactionmanager.entities.TransactionEntity;
 import com.finance.transactionmanager.exceptions.custom.BadRequestException;
 import com.finance.transactionmanager.exceptions.custom.NotFoundException;
+import com.finance.transactionmanager.exceptions.custom.ServiceUnavailableException;
 import com.finance.transactionmanager.mappers.TransactionMapper;
+import com.finance.transactionmanager.models.request.BatchExchangeRequestModel;
+import com.finance.transactionmanager.models.request.BulkTransactionRequestModel;
+import com.finance.transactionmanager.models.request.TransactionRequestModel;
+import com.finance.transactionmanager.models.response.IngestionStatus;
+import com.finance.transactionmanager.models.response.TransactionResponseModel;
+import com.finance.transactionmanager.repositories.TransactionBatchWriter;
 import com.finance.transactionmanager.repositories.TransactionRepository;
+import com.finance.transactionmanager.rest.cache.ExchangeRateSnapshot;
 import com.finance.transactionmanager.rest.gateways.FiscalDataGateway;
+import com.finance.transactionmanager.rest.response.ExchangeApiResponseModel;
+import com.finance.transactionmanager.services.cache.ExchangeResultCache;
+import com.finance.transactionmanager.services.cache.ExchangeResultCache.ExchangeResultKey;
+import com.finance.transactionmanager.services.cache.TransactionSnapshotCache;
+import com.finance.transactionmanager.services.ingestion.TransactionIngestionQueue;
+import com.finance.transactionmanager.services.pagination.CountMode;
+import com.finance.transactionmanager.services.pagination.TransactionCursor;
 import com.finance.transactionmanager.setup.TestBase;
 import com.finance.transactionmanager.setup.fixtures.ExchangeFixtures;
 import com.finance.transactionmanager.setup.fixtures.TransactionFixtures;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,6 +66,28 @@ class TransactionServiceTests extends TestBase {
     @Mock
     private FiscalDataGateway fiscalDataGatewayMock;
 
+    @Spy
+    private Scheduler blockingTaskScheduler = Schedulers.immediate();
+
+    @Spy
+    private ExchangeResultCache exchangeResultCache = new ExchangeResultCache(100);
+
+    @Mock
+    private TransactionBatchWriter transactionBatchWriterMock;
+
+    @Spy
+    private TransactionSnapshotCache transactionSnapshotCache = new TransactionSnapshotCache(100);
+
+    @Mock
+    private TransactionIngestionQueue transactionIngestionQueueMock;
+
+    @BeforeEach
+    void setupSnapshot() {
+        doReturn(ExchangeRateSnapshot.empty())
+                .when(fiscalDataGatewayMock)
+                .getCurrentSnapshot();
+    }
+
     @Test
     void refreshCache_should_call_one_time_the_fiscalDataGateway() {
         doNothing().when(fiscalDataGatewayMock).manualCacheRefresh();
@@ -75,25 +125,228 @@ class TransactionServiceTests extends TestBase {
     @Test
     @DisplayName("getAll(), should run correctly")
     void getAll_should_run_correctly() {
-        var entity = TransactionFixtures.getTransactionEntity();
-        var model = TransactionFixtures.getTransactionResponseModel();
+        var row = getTransactionRow();
 
-        doReturn(new PageImpl<>(List.of(entity), PageRequest.of(0, 10), 0))
+        doReturn(new PageImpl<>(List.of(row), PageRequest.of(0, 10), 0))
                 .when(transactionRepositoryMock)
-                .findAll(any(PageRequest.class));
-
-        doReturn(model)
-                .when(transactionMapperMock)
-                .fromEntityToTransactionResponseModel(entity);
+                .findAllRows(any(PageRequest.class));
 
         var result = transactionService.getAll(0, 10);
 
         assertNotNull(result);
         assertEquals(1, result.getData().size());
-        assertEquals(entity.getId(), result.getData().getFirst().getId());
-        assertEquals(entity.getDescription(), result.getData().getFirst().getDescription());
-        assertEquals(entity.getTransactionDate(), result.getData().getFirst().getTransactionDate());
-        assertEquals(entity.getId(), result.getData().getFirst().getId());
+        assertEquals(TransactionFixtures.ID, result.getData().getFirst().getId());
+        assertEquals(TransactionFixtures.DESCRIPTION, result.getData().getFirst().getDescription());
+        assertEquals(TransactionFixtures.TRANSACTION_DATE_TIME, result.getData().getFirst().getTransactionDate());
+        assertEquals(TransactionFixtures.CURRENCY, result.getData().getFirst().getPurchaseCurrency());
+        verify(transactionRepositoryMock, times(0)).findAll(any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("getAll(), should return a cursor to the next page when more records exist")
+    void getAll_should_return_a_cursor_to_the_next_page_when_more_records_exist() {
+        var row = getTransactionRow();
+
+        doReturn(new PageImpl<>(List.of(row), PageRequest.of(0, 1), 2))
+                .when(transactionRepositoryMock)
+                .findAllRows(any(PageRequest.class));
+
+        var result = transactionService.getAll(0, 1);
+
+        assertEquals(TransactionCursor.of(row), TransactionCursor.decode(result.getNextCursor()));
+        verify(transactionRepositoryMock, times(1))
+                .findAllRows(PageRequest.of(0, 1, Sort.by("transactionDate", "id")));
+    }
+
+    @Test
+    @DisplayName("getAll(), should skip the count query when no totals are requested")
+    void getAll_should_skip_the_count_query_when_no_totals_are_requested() {
+        doReturn(new SliceImpl<>(List.of(getTransactionRow()), PageRequest.of(0, 1), true))
+                .when(transactionRepositoryMock)
+                .findRowSlice(any());
+
+        var result = transactionService.getAll(0, 1, CountMode.NONE);
+
+        assertEquals(1, result.getData().size());
+        assertTrue(result.getHasNext());
+        assertNull(result.getTotalElements());
+        assertNull(result.getTotalPages());
+        assertNotNull(result.getNextCursor());
+        verify(transactionRepositoryMock, times(0)).findAllRows(any(PageRequest.class));
+        verify(transactionRepositoryMock, times(0)).count();
+        verify(transactionRepositoryMock, times(0)).estimateCount();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"250, 250", "-1, 12"})
+    @DisplayName("getAll(), should report estimated totals from table statistics, counting only when never analyzed")
+    void getAll_should_report_estimated_totals_from_table_statistics_counting_only_when_never_analyzed(
+            long estimate, long expectedTotal) {
+        doReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false))
+                .when(transactionRepositoryMock)
+                .findRowSlice(any());
+
+        doReturn(estimate)
+                .when(transactionRepositoryMock)
+                .estimateCount();
+
+        doReturn(12L)
+                .when(transactionRepositoryMock)
+                .count();
+
+        var result = transactionService.getAll(0, 10, CountMode.APPROXIMATE);
+
+        assertEquals(expectedTotal, result.getTotalElements());
+        assertEquals((int) Math.ceil(expectedTotal / 10.0), result.getTotalPages());
+        assertTrue(result.getTotalsEstimated());
+        assertFalse(result.getHasNext());
+        assertNull(result.getNextCursor());
+        verify(transactionRepositoryMock, times(0)).findAllRows(any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("getAllAfter(), should start from the first record and return a cursor when more records exist")
+    void getAllAfter_should_start_from_the_first_record_and_return_a_cursor_when_more_records_exist() {
+        var first = getTransactionRow();
+        var second = getTransactionRow();
+        second.setId(UUID.fromString("00000000-0000-0000-0000-000000000002"));
+
+        doReturn(List.of(first, second))
+                .when(transactionRepositoryMock)
+                .findFirstRows(Limit.of(2));
+
+        var result = transactionService.getAllAfter(null, 1);
+
+        assertEquals(1, result.getData().size());
+        assertNull(result.getPage());
+        assertNull(result.getTotalElements());
+        assertEquals(new TransactionCursor(first.getTransactionDate(), first.getId()),
+                TransactionCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("getAllAfter(), should continue after the cursor and omit it on the last page")
+    void getAllAfter_should_continue_after_the_cursor_and_omit_it_on_the_last_page() {
+        var cursor = new TransactionCursor(TransactionFixtures.TRANSACTION_DATE_TIME, TransactionFixtures.ID);
+
+        doReturn(List.of(getTransactionRow()))
+                .when(transactionRepositoryMock)
+                .findRowsAfter(any(), any(), any());
+
+        var result = transactionService.getAllAfter(cursor.encode(), 10);
+
+        assertEquals(1, result.getData().size());
+        assertNull(result.getNextCursor());
+        verify(transactionRepositoryMock, times(1))
+                .findRowsAfter(TransactionFixtures.TRANSACTION_DATE_TIME, TransactionFixtures.ID, Limit.of(11));
+    }
+
+    @Test
+    @DisplayName("getAllAfter(), should fail when the cursor is not valid")
+    void getAllAfter_should_fail_when_the_cursor_is_not_valid() {
+        var ex = assertThrows(BadRequestException.class, () -> transactionService.getAllAfter("not-a-cursor", 10));
+
+        assertEquals("The provided cursor is not valid.", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("createAll(), should insert every transaction through the batch writer in submission order")
+    void createAll_should_insert_every_transaction_through_the_batch_writer_in_submission_order() {
+        var first = TransactionFixtures.getTransactionRequestModel();
+        var second = TransactionFixtures.getTransactionRequestModel();
+        second.setPurchaseAmount(new BigDecimal("10.555"));
+        var ids = List.of(TransactionFixtures.ID, UUID.fromString("00000000-0000-0000-0000-000000000002"));
+
+        doAnswer(invocation -> TransactionEntity.builder()
+                .purchaseAmount(invocation.<TransactionRequestModel>getArgument(0).getPurchaseAmount())
+                .build())
+                .when(transactionMapperMock)
+                .fromRequestModelToEntity(any());
+
+        doAnswer(invocation -> {
+            List<TransactionEntity> entities = invocation.getArgument(0);
+            IntStream.range(0, entities.size()).forEach(index -> entities.get(index).setId(ids.get(index)));
+            return ids;
+        })
+                .when(transactionBatchWriterMock)
+                .insertAll(any());
+
+        var result = transactionService.createAll(BulkTransactionRequestModel.builder()
+                .transactions(List.of(first, second))
+                .build());
+
+        assertEquals(2, result.getCreated());
+        assertEquals(ids, result.getIds());
+
+        var captor = ArgumentCaptor.<List<TransactionEntity>>captor();
+        verify(transactionBatchWriterMock, times(1)).insertAll(captor.capture());
+
+        var entities = captor.getValue();
+        assertEquals(new BigDecimal("10.56"), entities.get(1).getPurchaseAmount());
+        assertNotNull(entities.getFirst().getTransactionDate());
+        assertEquals(entities.getFirst().getTransactionDate(), entities.get(1).getTransactionDate());
+        verify(transactionRepositoryMock, times(0)).save(any());
+        assertTrue(transactionSnapshotCache.find(ids.get(1)).isPresent());
+    }
+
+    @Test
+    @DisplayName("create(), should queue the transaction instead of saving it when asynchronous ingestion is enabled")
+    void create_should_queue_the_transaction_instead_of_saving_it_when_asynchronous_ingestion_is_enabled() {
+        var entity = TransactionFixtures.getTransactionEntity();
+        entity.setId(null);
+
+        doReturn(true)
+                .when(transactionIngestionQueueMock)
+                .isEnabled();
+
+        doReturn(entity)
+                .when(transactionMapperMock)
+                .fromRequestModelToEntity(any());
+
+        doReturn(TransactionFixtures.getTransactionResponseModel())
+                .when(transactionMapperMock)
+                .fromEntityToTransactionResponseModel(entity);
+
+        var result = transactionService.create(TransactionFixtures.getTransactionRequestModel());
+
+        assertEquals(TransactionFixtures.ID, result.getId());
+        assertNotNull(entity.getTransactionDate());
+        verify(transactionIngestionQueueMock, times(1)).enqueue(entity);
+        verify(transactionRepositoryMock, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("getIngestionStatus(), should report the queued status while the transaction is tracked")
+    void getIngestionStatus_should_report_the_queued_status_while_the_transaction_is_tracked() {
+        doReturn(Optional.of(IngestionStatus.PENDING))
+                .when(transactionIngestionQueueMock)
+                .findStatus(TransactionFixtures.ID);
+
+        var result = transactionService.getIngestionStatus(TransactionFixtures.ID);
+
+        assertEquals(IngestionStatus.PENDING, result.getStatus());
+        verify(transactionRepositoryMock, times(0)).findById(any());
+    }
+
+    @Test
+    @DisplayName("getIngestionStatus(), should fall back to the database once the status is no longer tracked")
+    void getIngestionStatus_should_fall_back_to_the_database_once_the_status_is_no_longer_tracked() {
+        var missingId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+        doReturn(Optional.empty())
+                .when(transactionIngestionQueueMock)
+                .findStatus(any());
+
+        doReturn(Optional.of(TransactionFixtures.getTransactionEntity()))
+                .when(transactionRepositoryMock)
+                .findById(TransactionFixtures.ID);
+
+        assertEquals(IngestionStatus.PERSISTED,
+                transactionService.getIngestionStatus(TransactionFixtures.ID).getStatus());
+
+        var ex = assertThrows(NotFoundException.class, () -> transactionService.getIngestionStatus(missingId));
+
+        assertEquals("Transaction with id '" + missingId + "' was not found.", ex.getMessage());
     }
 
     @Test
@@ -193,7 +446,7 @@ class TransactionServiceTests extends TestBase {
 
         doReturn(Optional.empty())
                 .when(fiscalDataGatewayMock)
-                .getExchangeData(any(), any());
+                .getExchangeData(any(), any(), any());
 
         try {
             transactionService.exchange(TransactionFixtures.ID, "any-currency");
@@ -221,7 +474,7 @@ class TransactionServiceTests extends TestBase {
 
         doReturn(Optional.of(apiResponse))
                 .when(fiscalDataGatewayMock)
-                .getExchangeData(any(), any());
+                .getExchangeData(any(), any(), any());
 
         try {
             transactionService.exchange(TransactionFixtures.ID, "any-currency");
@@ -251,7 +504,7 @@ class TransactionServiceTests extends TestBase {
 
         doReturn(Optional.of(apiResponse))
                 .when(fiscalDataGatewayMock)
-                .getExchangeData(any(), any());
+                .getExchangeData(any(), any(), any());
 
         doReturn(exchangeResponse)
                 .when(transactionMapperMock)
@@ -282,7 +535,7 @@ class TransactionServiceTests extends TestBase {
 
         doReturn(Optional.of(apiResponse))
                 .when(fiscalDataGatewayMock)
-                .getExchangeData(any(), any());
+                .getExchangeData(any(), any(), any());
 
         doReturn(exchangeResponse)
                 .when(transactionMapperMock)
@@ -313,7 +566,7 @@ class TransactionServiceTests extends TestBase {
 
         doReturn(Optional.of(apiResponse))
                 .when(fiscalDataGatewayMock)
-                .getExchangeData(any(), any());
+                .getExchangeData(any(), any(), any());
 
         doReturn(exchangeResponse)
                 .when(transactionMapperMock)
@@ -344,7 +597,7 @@ class TransactionServiceTests extends TestBase {
 
         doReturn(Optional.of(apiResponse))
                 .when(fiscalDataGatewayMock)
-                .getExchangeData(any(), any());
+                .getExchangeData(any(), any(), any());
 
         doReturn(exchangeResponse)
                 .when(transactionMapperMock)
@@ -377,7 +630,7 @@ class TransactionServiceTests extends TestBase {
 
         doReturn(Optional.of(apiResponse))
                 .when(fiscalDataGatewayMock)
-                .getExchangeData(any(), any());
+                .getExchangeData(any(), any(), any());
 
         doReturn(exchangeResponse)
                 .when(transactionMapperMock)
@@ -429,7 +682,7 @@ class TransactionServiceTests extends TestBase {
 
         doReturn(Optional.of(apiResponse))
                 .when(fiscalDataGatewayMock)
-                .getExchangeData(any(), any());
+                .getExchangeData(any(), any(), any());
 
         doReturn(exchangeResponse)
                 .when(transactionMapperMock)
@@ -440,4 +693,441 @@ class TransactionServiceTests extends TestBase {
         assertNotNull(result);
         assertEquals(expectedValue, result.getExchangeDetails().getConvertedAmount());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("exchange(), should mark exchange details as stale when fiscal data is stale")
+    void exchange_should_mark_exchange_details_as_stale_when_fiscal_data_is_stale() {
+        var entity = TransactionFixtures.getTransactionEntity();
+        var apiResponse = ExchangeFixtures.getExchangeApiResponseModel();
+        apiResponse.setStale(true);
+        var exchangeResponse = ExchangeFixtures.getExchangeResponseModel();
+        exchangeResponse.setExchangeDetails(null);
+
+        doReturn(Optional.of(entity))
+                .when(transactionRepositoryMock)
+                .findById(any());
+
+        doReturn(Optional.of(apiResponse))
+                .when(fiscalDataGatewayMock)
+                .getExchangeData(any(), any(), any());
+
+        doReturn(exchangeResponse)
+                .when(transactionMapperMock)
+                .fromEntityToExchangeResponseModel(any());
+
+        var result = transactionService.exchange(TransactionFixtures.ID, "any-currency");
+
+        assertTrue(result.getExchangeDetails().isStale());
+    }
+
+    @Test
+    @DisplayName("exchange(), should serve repeated conversions from the result cache")
+    void exchange_should_serve_repeated_conversions_from_the_result_cache() {
+        mockCachedConversion(ExchangeRateSnapshot.builder()
+                .add(ExchangeFixtures.getExchangeDataModel())
+                .build(3));
+
+        var firstResult = transactionService.exchange(TransactionFixtures.ID, ExchangeFixtures.COUNTRY_CURRENCY);
+        var secondResult = transactionService.exchange(TransactionFixtures.ID, " country-currency ");
+
+        assertSame(firstResult, secondResult);
+        verify(transactionRepositoryMock, times(1))
+                .findById(any());
+        verify(fiscalDataGatewayMock, times(1))
+                .getExchangeData(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("exchange(), should compute the conversion again once a new rate snapshot is published")
+    void exchange_should_compute_the_conversion_again_once_a_new_rate_snapshot_is_published() {
+        var snapshot = ExchangeRateSnapshot.builder()
+                .add(ExchangeFixtures.getExchangeDataModel())
+                .build(3);
+
+        mockCachedConversion(snapshot);
+
+        transactionService.exchange(TransactionFixtures.ID, ExchangeFixtures.COUNTRY_CURRENCY);
+
+        doReturn(snapshot.toBuilder().build(4))
+                .when(fiscalDataGatewayMock)
+                .getCurrentSnapshot();
+
+        transactionService.exchange(TransactionFixtures.ID, ExchangeFixtures.COUNTRY_CURRENCY);
+
+        verify(fiscalDataGatewayMock, times(2))
+                .getExchangeData(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("exchange(), should convert with the snapshot its result key was taken from")
+    void exchange_should_convert_with_the_snapshot_its_result_key_was_taken_from() {
+        var snapshot = ExchangeRateSnapshot.builder()
+                .add(ExchangeFixtures.getExchangeDataModel())
+                .build(3);
+        var refreshedSnapshot = snapshot.toBuilder().build(4);
+
+        mockCachedConversion(snapshot);
+
+        doReturn(snapshot, refreshedSnapshot)
+                .when(fiscalDataGatewayMock)
+                .getCurrentSnapshot();
+
+        transactionService.exchange(TransactionFixtures.ID, ExchangeFixtures.COUNTRY_CURRENCY);
+
+        verify(fiscalDataGatewayMock, times(1))
+                .getExchangeData(same(snapshot), any(), any());
+        verify(fiscalDataGatewayMock, times(0))
+                .getExchangeData(any(), any());
+        verify(exchangeResultCache, times(1))
+                .put(eq(new ExchangeResultKey(TransactionFixtures.ID, ExchangeFixtures.COUNTRY_CURRENCY, 3)), any());
+    }
+
+    @Test
+    @DisplayName("exchange(), should not cache conversions made with stale rates")
+    void exchange_should_not_cache_conversions_made_with_stale_rates() {
+        var apiResponse = mockCachedConversion(ExchangeRateSnapshot.builder()
+                .add(ExchangeFixtures.getExchangeDataModel())
+                .build(3));
+        apiResponse.setStale(true);
+
+        transactionService.exchange(TransactionFixtures.ID, ExchangeFixtures.COUNTRY_CURRENCY);
+        transactionService.exchange(TransactionFixtures.ID, ExchangeFixtures.COUNTRY_CURRENCY);
+
+        verify(fiscalDataGatewayMock, times(2))
+                .getExchangeData(any(), any(), any());
+        verify(exchangeResultCache, times(0))
+                .put(any(), any());
+    }
+
+    @Test
+    @DisplayName("exchangeReactive(), should emit a cached conversion without reading the transaction")
+    void exchangeReactive_should_emit_a_cached_conversion_without_reading_the_transaction() {
+        mockCachedConversion(ExchangeRateSnapshot.builder()
+                .add(ExchangeFixtures.getExchangeDataModel())
+                .build(3));
+
+        var firstResult = transactionService.exchange(TransactionFixtures.ID, ExchangeFixtures.COUNTRY_CURRENCY);
+
+        StepVerifier.create(transactionService.exchangeReactive(TransactionFixtures.ID,
+                        ExchangeFixtures.COUNTRY_CURRENCY))
+                .expectNext(firstResult)
+                .verifyComplete();
+
+        verify(transactionRepositoryMock, times(1))
+                .findById(any());
+    }
+
+    @Test
+    @DisplayName("exchangeReactive(), should run correctly")
+    void exchangeReactive_should_run_correctly() {
+        var entity = TransactionFixtures.getTransactionEntity();
+        var apiResponse = ExchangeFixtures.getExchangeApiResponseModel();
+        var exchangeResponse = ExchangeFixtures.getExchangeResponseModel();
+        exchangeResponse.setExchangeDetails(null);
+
+        doReturn(Optional.of(entity))
+                .when(transactionRepositoryMock)
+                .findById(any());
+
+        doReturn(Mono.just(apiResponse))
+                .when(fiscalDataGatewayMock)
+                .getExchangeDataReactive(any(), any(), any());
+
+        doReturn(exchangeResponse)
+                .when(transactionMapperMock)
+                .fromEntityToExchangeResponseModel(any());
+
+        StepVerifier.create(transactionService.exchangeReactive(TransactionFixtures.ID, "any-currency"))
+                .assertNext(result -> {
+                    assertNotNull(result.getExchangeDetails());
+                    assertEquals(ExchangeFixtures.EXCHANGE_RATE, result.getExchangeDetails().getExchangeRate());
+                    assertEquals(new BigDecimal("15239.90"), result.getExchangeDetails().getConvertedAmount());
+                })
+                .verifyComplete();
+
+        verify(fiscalDataGatewayMock, times(1))
+                .getExchangeDataReactive(same(ExchangeRateSnapshot.empty()), any(), any());
+        verify(fiscalDataGatewayMock, times(0))
+                .getExchangeDataReactive(any(), any());
+    }
+
+    @Test
+    @DisplayName("exchangeReactive(), should emit NotFoundException when transaction is not found with provided id")
+    void exchangeReactive_should_emit_NotFoundException_when_transaction_is_not_found_with_provided_id() {
+        doReturn(Optional.empty())
+                .when(transactionRepositoryMock)
+                .findById(any());
+
+        StepVerifier.create(transactionService.exchangeReactive(TransactionFixtures.ID, "any-currency"))
+                .expectErrorSatisfies(ex -> {
+                    assertInstanceOf(NotFoundException.class, ex);
+                    assertEquals("Transaction with id '" + TransactionFixtures.ID + "' was not found.",
+                            ex.getMessage());
+                })
+                .verify();
+
+        verify(fiscalDataGatewayMock, times(0))
+                .getExchangeDataReactive(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("exchangeReactive(), should emit BadRequestException when fiscal data is empty")
+    void exchangeReactive_should_emit_BadRequestException_when_fiscal_data_is_empty() {
+        doReturn(Optional.of(TransactionFixtures.getTransactionEntity()))
+                .when(transactionRepositoryMock)
+                .findById(any());
+
+        doReturn(Mono.empty())
+                .when(fiscalDataGatewayMock)
+                .getExchangeDataReactive(any(), any(), any());
+
+        StepVerifier.create(transactionService.exchangeReactive(TransactionFixtures.ID, "any-currency"))
+                .expectErrorSatisfies(ex -> {
+                    assertInstanceOf(BadRequestException.class, ex);
+                    assertEquals("The purchase cannot be converted to the target currency. Reason: Exchange data " +
+                            "is unavailable. Please ensure that the fiscal data source is accessible and " +
+                            "contains valid exchange rates for the requested currency.", ex.getMessage());
+                })
+                .verify();
+    }
+
+    @Test
+    @DisplayName("exchangeBatch(), should load every transaction with one query and report each item separately")
+    void exchangeBatch_should_load_every_transaction_with_one_query_and_report_each_item_separately() {
+        var missingId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+        mockCachedConversion(ExchangeRateSnapshot.empty());
+
+        doReturn(List.of(TransactionFixtures.getTransactionEntity()))
+                .when(transactionRepositoryMock)
+                .findAllById(any());
+
+        var result = transactionService.exchangeBatch(BatchExchangeRequestModel.builder()
+                .transactionIds(List.of(TransactionFixtures.ID, missingId))
+                .targetCurrency(ExchangeFixtures.COUNTRY_CURRENCY)
+                .build());
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertEquals(TransactionFixtures.ID, result.getResults().getFirst().getTransactionId());
+        assertEquals(200, result.getResults().getFirst().getStatus());
+        assertNotNull(result.getResults().getFirst().getResult().getExchangeDetails());
+        assertEquals(missingId, result.getResults().get(1).getTransactionId());
+        assertEquals(404, result.getResults().get(1).getStatus());
+        assertEquals("Transaction with id '" + missingId + "' was not found.", result.getResults().get(1).getError());
+
+        verify(transactionRepositoryMock, times(1))
+                .findAllById(List.of(TransactionFixtures.ID, missingId));
+        verify(transactionRepositoryMock, times(0))
+                .findById(any());
+    }
+
+    @Test
+    @DisplayName("exchangeBatch(), should report conversion failures without failing the other items")
+    void exchangeBatch_should_report_conversion_failures_without_failing_the_other_items() {
+        var otherEntity = TransactionFixtures.getTransactionEntity();
+        otherEntity.setId(UUID.fromString("00000000-0000-0000-0000-000000000002"));
+        otherEntity.setTransactionDate(TransactionFixtures.TRANSACTION_DATE_TIME.plusYears(1));
+
+        var snapshot = ExchangeRateSnapshot.empty();
+
+        mockCachedConversion(snapshot);
+
+        doReturn(List.of(TransactionFixtures.getTransactionEntity(), otherEntity))
+                .when(transactionRepositoryMock)
+                .findAllById(any());
+
+        doThrow(new ServiceUnavailableException("Unavailable."))
+                .when(fiscalDataGatewayMock)
+                .getExchangeData(any(), any(), eq(otherEntity.getTransactionDate()));
+
+        var result = transactionService.exchangeBatch(BatchExchangeRequestModel.builder()
+                .transactionIds(List.of(TransactionFixtures.ID, otherEntity.getId()))
+                .targetCurrency(ExchangeFixtures.COUNTRY_CURRENCY)
+                .build());
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(503, result.getResults().get(1).getStatus());
+        assertEquals("Unavailable.", result.getResults().get(1).getError());
+        assertNull(result.getResults().get(1).getResult());
+
+        verify(fiscalDataGatewayMock, times(2))
+                .getExchangeData(same(snapshot), any(), any());
+        verify(fiscalDataGatewayMock, times(0))
+                .getExchangeData(any(), any());
+    }
+
+    @Test
+    @DisplayName("exchangeBatch(), should not query transactions whose conversion is already cached")
+    void exchangeBatch_should_not_query_transactions_whose_conversion_is_already_cached() {
+        mockCachedConversion(ExchangeRateSnapshot.builder()
+                .add(ExchangeFixtures.getExchangeDataModel())
+                .build(3));
+
+        var cachedResult = transactionService.exchange(TransactionFixtures.ID, ExchangeFixtures.COUNTRY_CURRENCY);
+
+        var result = transactionService.exchangeBatch(BatchExchangeRequestModel.builder()
+                .transactionIds(List.of(TransactionFixtures.ID, TransactionFixtures.ID))
+                .targetCurrency(ExchangeFixtures.COUNTRY_CURRENCY)
+                .build());
+
+        assertEquals(2, result.getSucceeded());
+        assertSame(cachedResult, result.getResults().getFirst().getResult());
+        assertSame(cachedResult, result.getResults().get(1).getResult());
+        verify(transactionRepositoryMock, times(0))
+                .findAllById(any());
+    }
+
+    @Test
+    @DisplayName("exchangeMany(), should load the transaction once and resolve every currency on one snapshot")
+    void exchangeMany_should_load_the_transaction_once_and_resolve_every_currency_on_one_snapshot() {
+        var snapshot = ExchangeRateSnapshot.empty();
+
+        mockCachedConversion(snapshot);
+
+        doReturn(TransactionFixtures.getTransactionResponseModel())
+                .when(transactionMapperMock)
+                .fromEntityToTransactionResponseModel(any());
+
+        var result = transactionService.exchangeMany(TransactionFixtures.ID,
+                List.of(ExchangeFixtures.COUNTRY_CURRENCY, "Other-Currency ", "Other-Currency"));
+
+        assertEquals(TransactionFixtures.ID, result.getId());
+        assertEquals(List.of(ExchangeFixtures.COUNTRY_CURRENCY, "Other-Currency"),
+                List.copyOf(result.getExchangeDetails().keySet()));
+        assertNotNull(result.getExchangeDetails().get("Other-Currency").getConvertedAmount());
+
+        verify(transactionRepositoryMock, times(1))
+                .findById(TransactionFixtures.ID);
+        verify(fiscalDataGatewayMock, times(1))
+                .getCurrentSnapshot();
+        verify(fiscalDataGatewayMock, times(2))
+                .getExchangeData(same(snapshot), any(), any());
+    }
+
+    @Test
+    @DisplayName("exchangeMany(), should fail when no target currency is provided")
+    void exchangeMany_should_fail_when_no_target_currency_is_provided() {
+        var ex = assertThrows(BadRequestException.class,
+                () -> transactionService.exchangeMany(TransactionFixtures.ID, List.of(" ")));
+
+        assertEquals("At least one target currency must be provided.", ex.getMessage());
+        verify(transactionRepositoryMock, times(0))
+                .findById(any());
+    }
+
+    @Test
+    @DisplayName("exchangeMany(), should fail when more than the maximum target currencies are provided")
+    void exchangeMany_should_fail_when_more_than_the_maximum_target_currencies_are_provided() {
+        var currencies = IntStream.rangeClosed(1, TransactionService.MAX_TARGET_CURRENCIES + 1)
+                .mapToObj(index -> "Country-Currency" + index)
+                .toList();
+
+        var ex = assertThrows(BadRequestException.class,
+                () -> transactionService.exchangeMany(TransactionFixtures.ID, currencies));
+
+        assertEquals("No more than 20 target currencies can be requested at once.", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("exchange(), should read a transaction from the database only once across conversions")
+    void exchange_should_read_a_transaction_from_the_database_only_once_across_conversions() {
+        mockCachedConversion(ExchangeRateSnapshot.empty());
+
+        transactionService.exchange(TransactionFixtures.ID, ExchangeFixtures.COUNTRY_CURRENCY);
+        transactionService.exchange(TransactionFixtures.ID, "Other-Currency");
+
+        verify(transactionRepositoryMock, times(1))
+                .findById(TransactionFixtures.ID);
+    }
+
+    @Test
+    @DisplayName("exchange(), should not read a transaction from the database after creating it")
+    void exchange_should_not_read_a_transaction_from_the_database_after_creating_it() {
+        var entity = TransactionFixtures.getTransactionEntity();
+
+        mockCachedConversion(ExchangeRateSnapshot.empty());
+
+        doReturn(entity)
+                .when(transactionRepositoryMock)
+                .save(any());
+
+        doReturn(entity)
+                .when(transactionMapperMock)
+                .fromRequestModelToEntity(any());
+
+        transactionService.create(TransactionFixtures.getTransactionRequestModel());
+
+        var result = transactionService.exchange(TransactionFixtures.ID, ExchangeFixtures.COUNTRY_CURRENCY);
+
+        assertNotNull(result.getExchangeDetails());
+        verify(transactionRepositoryMock, times(0))
+                .findById(any());
+    }
+
+    @Test
+    @DisplayName("exchangeBatch(), should only query transactions missing from the snapshot cache")
+    void exchangeBatch_should_only_query_transactions_missing_from_the_snapshot_cache() {
+        var missingId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+        mockCachedConversion(ExchangeRateSnapshot.empty());
+        transactionSnapshotCache.put(TransactionFixtures.getTransactionEntity());
+
+        doReturn(List.of())
+                .when(transactionRepositoryMock)
+                .findAllById(any());
+
+        var result = transactionService.exchangeBatch(BatchExchangeRequestModel.builder()
+                .transactionIds(List.of(TransactionFixtures.ID, missingId))
+                .targetCurrency(ExchangeFixtures.COUNTRY_CURRENCY)
+                .build());
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(404, result.getResults().get(1).getStatus());
+        verify(transactionRepositoryMock, times(1))
+                .findAllById(List.of(missingId));
+    }
+
+    private TransactionResponseModel getTransactionRow() {
+        var row = TransactionFixtures.getTransactionResponseModel();
+        row.setPurchaseCurrency(null);
+
+        doAnswer(invocation -> {
+            TransactionResponseModel mappedRow = invocation.getArgument(0);
+            mappedRow.setPurchaseCurrency(TransactionFixtures.CURRENCY);
+            return mappedRow;
+        })
+                .when(transactionMapperMock)
+                .withDefaultCurrency(any());
+
+        return row;
+    }
+
+    private ExchangeApiResponseModel mockCachedConversion(ExchangeRateSnapshot snapshot) {
+        var apiResponse = ExchangeFixtures.getExchangeApiResponseModel();
+        var exchangeResponse = ExchangeFixtures.getExchangeResponseModel();
+        exchangeResponse.setExchangeDetails(null);
+
+        doReturn(snapshot)
+                .when(fiscalDataGatewayMock)
+                .getCurrentSnapshot();
+
+        doReturn(Optional.of(TransactionFixtures.getTransactionEntity()))
+                .when(transactionRepositoryMock)
+                .findById(any());
+
+        doReturn(Optional.of(apiResponse))
+                .when(fiscalDataGatewayMock)
+                .getExchangeData(any(), any(), any());
+
+        doAnswer(invocation -> {
+            var model = ExchangeFixtures.getExchangeResponseModel();
+            model.setExchangeDetails(null);
+            return model;
+        })
+                .when(transactionMapperMock)
+                .fromEntityToExchangeResponseModel(any());
+
+        return apiResponse;
+    }
+}
@@ -0,0 +1,40 @@
+package com.finance.transactionmanager.services.cache;
+
+import com.finance.transactionmanager.services.cache.ExchangeResultCache.ExchangeResultKey;
+import com.finance.transactionmanager.setup.fixtures.ExchangeFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangeResultCacheTests {
+    private final ExchangeResultCache exchangeResultCache = new ExchangeResultCache(10);
+
+    @Test
+    @DisplayName("find(), should only return results stored for the same transaction, currency and generation")
+    void find_should_only_return_results_stored_for_the_same_transaction_currency_and_generation() {
+        var result = ExchangeFixtures.getExchangeResponseModel();
+
+        exchangeResultCache.put(new ExchangeResultKey(ExchangeFixtures.ID, "Brazil-Real", 1), result);
+
+        assertSame(result, exchangeResultCache.find(
+                new ExchangeResultKey(ExchangeFixtures.ID, "Brazil-Real", 1)).orElseThrow());
+        assertTrue(exchangeResultCache.find(new ExchangeResultKey(ExchangeFixtures.ID, "Brazil-Real", 2)).isEmpty());
+        assertTrue(exchangeResultCache.find(new ExchangeResultKey(ExchangeFixtures.ID, "Canada-Dollar", 1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("find(), should record hits and misses")
+    void find_should_record_hits_and_misses() {
+        var key = new ExchangeResultKey(ExchangeFixtures.ID, "Brazil-Real", 1);
+
+        exchangeResultCache.find(key);
+        exchangeResultCache.put(key, ExchangeFixtures.getExchangeResponseModel());
+        exchangeResultCache.find(key);
+
+        var stats = exchangeResultCache.getNativeCache().stats();
+
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+}
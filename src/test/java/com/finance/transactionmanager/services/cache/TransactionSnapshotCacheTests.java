@@ -0,0 +1,68 @@
+package com.finance.transactionmanager.services.cache;
+
+import com.finance.transactionmanager.setup.fixtures.TransactionFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionSnapshotCacheTests {
+    private final TransactionSnapshotCache transactionSnapshotCache = new TransactionSnapshotCache(10);
+
+    @Test
+    @DisplayName("find(), should return a fresh copy so callers cannot change the cached snapshot")
+    void find_should_return_a_fresh_copy_so_callers_cannot_change_the_cached_snapshot() {
+        var entity = TransactionFixtures.getTransactionEntity();
+
+        transactionSnapshotCache.put(entity);
+        entity.setDescription("Changed after caching");
+
+        var first = transactionSnapshotCache.find(TransactionFixtures.ID).orElseThrow();
+        first.setDescription("Changed by a caller");
+
+        var second = transactionSnapshotCache.find(TransactionFixtures.ID).orElseThrow();
+
+        assertNotSame(first, second);
+        assertEquals(TransactionFixtures.getTransactionEntity(), second);
+    }
+
+    @Test
+    @DisplayName("findOrLoad(), should load a transaction once and not remember missing ones")
+    void findOrLoad_should_load_a_transaction_once_and_not_remember_missing_ones() {
+        var loads = new AtomicInteger();
+
+        var found = transactionSnapshotCache.findOrLoad(TransactionFixtures.ID, id -> {
+            loads.incrementAndGet();
+            return Optional.of(TransactionFixtures.getTransactionEntity());
+        });
+        var cached = transactionSnapshotCache.findOrLoad(TransactionFixtures.ID, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertEquals(TransactionFixtures.getTransactionEntity(), found.orElseThrow());
+        assertEquals(TransactionFixtures.getTransactionEntity(), cached.orElseThrow());
+        assertEquals(1, loads.get());
+
+        var otherId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+        assertTrue(transactionSnapshotCache.findOrLoad(otherId, id -> Optional.empty()).isEmpty());
+        assertTrue(transactionSnapshotCache.find(otherId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("findOrLoad(), should run the loader outside the cache so it can touch the same entry")
+    void findOrLoad_should_run_the_loader_outside_the_cache_so_it_can_touch_the_same_entry() {
+        var found = transactionSnapshotCache.findOrLoad(TransactionFixtures.ID, id -> {
+            transactionSnapshotCache.put(TransactionFixtures.getTransactionEntity());
+            return Optional.of(TransactionFixtures.getTransactionEntity());
+        });
+
+        assertEquals(TransactionFixtures.getTransactionEntity(), found.orElseThrow());
+        assertTrue(transactionSnapshotCache.find(TransactionFixtures.ID).isPresent());
+    }
+}
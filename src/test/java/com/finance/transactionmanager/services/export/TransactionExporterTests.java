@@ -0,0 +1,117 @@
+package com.finance.transactionmanager.services.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.transactionmanager.entities.TransactionEntity;
+import com.finance.transactionmanager.exceptions.custom.BadRequestException;
+import com.finance.transactionmanager.mappers.TransactionMapper;
+import com.finance.transactionmanager.models.response.TransactionResponseModel;
+import com.finance.transactionmanager.repositories.TransactionRepository;
+import com.finance.transactionmanager.setup.TestBase;
+import com.finance.transactionmanager.setup.fixtures.TransactionFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TransactionExporterTests extends TestBase {
+    @Mock
+    private TransactionRepository transactionRepositoryMock;
+
+    @Mock
+    private TransactionMapper transactionMapperMock;
+
+    @Mock
+    private EntityManager entityManagerMock;
+
+    @Mock
+    private PlatformTransactionManager transactionManagerMock;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private TransactionExporter transactionExporter;
+
+    @BeforeEach
+    void setupExporter() {
+        transactionExporter = new TransactionExporter(transactionRepositoryMock, transactionMapperMock,
+                entityManagerMock, objectMapper, transactionManagerMock, 30);
+    }
+
+    @Test
+    @DisplayName("export(), should write escaped CSV rows for the inclusive date range and detach every entity")
+    void export_should_write_escaped_csv_rows_for_the_inclusive_date_range_and_detach_every_entity()
+            throws Exception {
+        var entity = TransactionFixtures.getTransactionEntity();
+        var row = TransactionFixtures.getTransactionResponseModel();
+        row.setDescription("Lunch, \"team\"");
+
+        mockRows(entity, row);
+
+        var output = new ByteArrayOutputStream();
+
+        transactionExporter.export(ExportFormat.CSV, LocalDate.of(1999, 8, 1), LocalDate.of(1999, 8, 31), false)
+                .writeTo(output);
+
+        assertEquals("id,description,transactionDate,purchaseCurrency,purchaseAmount\n" +
+                TransactionFixtures.ID + ",\"Lunch, \"\"team\"\"\",1999-08-01T00:00:00UTC,Currency,123.45\n",
+                output.toString(StandardCharsets.UTF_8));
+
+        verify(transactionRepositoryMock, times(1))
+                .streamForExport(LocalDate.of(1999, 8, 1).atStartOfDay(), LocalDate.of(1999, 9, 1).atStartOfDay());
+        verify(entityManagerMock, times(1)).detach(entity);
+        verify(transactionManagerMock, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("export(), should write gzip encoded NDJSON rows")
+    void export_should_write_gzip_encoded_ndjson_rows() throws Exception {
+        mockRows(TransactionFixtures.getTransactionEntity(), TransactionFixtures.getTransactionResponseModel());
+
+        var output = new ByteArrayOutputStream();
+
+        transactionExporter.export(ExportFormat.NDJSON, null, null, true).writeTo(output);
+
+        try (var input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            var lines = new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+
+            assertEquals(1, lines.length);
+            assertEquals(TransactionFixtures.getTransactionResponseModel(),
+                    objectMapper.readValue(lines[0], TransactionResponseModel.class));
+        }
+
+        verify(transactionRepositoryMock, times(1)).streamForExport(null, null);
+    }
+
+    @Test
+    @DisplayName("export(), should fail when the start date is after the end date")
+    void export_should_fail_when_the_start_date_is_after_the_end_date() {
+        var ex = assertThrows(BadRequestException.class, () -> transactionExporter
+                .export(ExportFormat.CSV, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1), false));
+
+        assertEquals("The export start date cannot be after its end date.", ex.getMessage());
+        verifyNoInteractions(transactionRepositoryMock);
+    }
+
+    private void mockRows(TransactionEntity entity, TransactionResponseModel row) {
+        doReturn(Stream.of(entity))
+                .when(transactionRepositoryMock)
+                .streamForExport(any(), any());
+
+        doReturn(row)
+                .when(transactionMapperMock)
+                .fromEntityToTransactionResponseModel(any());
+    }
+}
@@ -0,0 +1,141 @@
+package com.finance.transactionmanager.services.ingestion;
+
+import com.finance.transactionmanager.entities.TransactionEntity;
+import com.finance.transactionmanager.exceptions.custom.ServiceUnavailableException;
+import com.finance.transactionmanager.models.response.IngestionStatus;
+import com.finance.transactionmanager.repositories.CommitDurability;
+import com.finance.transactionmanager.repositories.TransactionBatchWriter;
+import com.finance.transactionmanager.services.cache.TransactionSnapshotCache;
+import com.finance.transactionmanager.setup.TestBase;
+import com.finance.transactionmanager.setup.fixtures.TransactionFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TransactionIngestionQueueTests extends TestBase {
+    @Mock
+    private TransactionBatchWriter transactionBatchWriterMock;
+
+    private final TransactionSnapshotCache transactionSnapshotCache = new TransactionSnapshotCache(100);
+
+    @Test
+    @DisplayName("enqueue(), should assign a time-ordered id and report the transaction as pending")
+    void enqueue_should_assign_a_time_ordered_id_and_report_the_transaction_as_pending() {
+        var ingestionQueue = getIngestionQueue(10, 5);
+        var entity = getNewEntity();
+
+        var id = ingestionQueue.enqueue(entity);
+
+        assertEquals(7, id.version());
+        assertEquals(id, entity.getId());
+        assertEquals(IngestionStatus.PENDING, ingestionQueue.findStatus(id).orElseThrow());
+        assertEquals(1, ingestionQueue.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("enqueue(), should reject transactions once the queue is full")
+    void enqueue_should_reject_transactions_once_the_queue_is_full() {
+        var ingestionQueue = getIngestionQueue(1, 5);
+        var rejected = getNewEntity();
+
+        ingestionQueue.enqueue(getNewEntity());
+
+        var ex = assertThrows(ServiceUnavailableException.class, () -> ingestionQueue.enqueue(rejected));
+
+        assertEquals("The transaction ingestion queue is full. Please try again later.", ex.getMessage());
+        assertTrue(ingestionQueue.findStatus(rejected.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("enqueue(), should reject transactions once the queue has been stopped")
+    void enqueue_should_reject_transactions_once_the_queue_has_been_stopped() {
+        var ingestionQueue = new TransactionIngestionQueue(transactionBatchWriterMock, transactionSnapshotCache,
+                true, 10, 0, 5, 0, 2, 0, CommitDurability.RELAXED, 60, 100);
+        var rejected = getNewEntity();
+
+        ingestionQueue.start();
+        ingestionQueue.stop();
+
+        var ex = assertThrows(ServiceUnavailableException.class, () -> ingestionQueue.enqueue(rejected));
+
+        assertEquals("The transaction ingestion queue is not accepting transactions. Please try again later.",
+                ex.getMessage());
+        assertFalse(ingestionQueue.isRunning());
+        assertEquals(0, ingestionQueue.getPendingCount());
+        verifyNoInteractions(transactionBatchWriterMock);
+    }
+
+    @Test
+    @DisplayName("getPhase(), should stop after the web server has finished handling requests")
+    void getPhase_should_stop_after_the_web_server_has_finished_handling_requests() {
+        var ingestionQueue = getIngestionQueue(10, 5);
+
+        assertTrue(ingestionQueue.getPhase() < WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024);
+    }
+
+    @Test
+    @DisplayName("writeNextBatch(), should group queued transactions into one commit with the configured durability")
+    @SuppressWarnings("unchecked")
+    void writeNextBatch_should_group_queued_transactions_into_one_commit_with_the_configured_durability()
+            throws Exception {
+        var ingestionQueue = getIngestionQueue(10, 3);
+        var ids = IntStream.range(0, 4)
+                .mapToObj(index -> ingestionQueue.enqueue(getNewEntity()))
+                .toList();
+
+        assertEquals(3, ingestionQueue.writeNextBatch());
+        assertEquals(1, ingestionQueue.writeNextBatch());
+
+        ArgumentCaptor<List<TransactionEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionBatchWriterMock, times(2)).insertAll(captor.capture(), eq(CommitDurability.RELAXED));
+
+        var firstBatchIds = captor.getAllValues().getFirst().stream()
+                .map(TransactionEntity::getId)
+                .toList();
+
+        assertEquals(ids.subList(0, 3), firstBatchIds);
+        ids.forEach(id -> assertEquals(IngestionStatus.PERSISTED, ingestionQueue.findStatus(id).orElseThrow()));
+        assertTrue(transactionSnapshotCache.find(ids.getLast()).isPresent());
+    }
+
+    @Test
+    @DisplayName("writeNextBatch(), should mark the batch as failed after every write attempt fails")
+    void writeNextBatch_should_mark_the_batch_as_failed_after_every_write_attempt_fails() throws Exception {
+        var ingestionQueue = getIngestionQueue(10, 5);
+        var id = ingestionQueue.enqueue(getNewEntity());
+
+        doThrow(new IllegalStateException("Database unavailable."))
+                .when(transactionBatchWriterMock)
+                .insertAll(any(), any());
+
+        ingestionQueue.writeNextBatch();
+
+        verify(transactionBatchWriterMock, times(2)).insertAll(any(), any());
+        assertEquals(IngestionStatus.FAILED, ingestionQueue.findStatus(id).orElseThrow());
+        assertTrue(transactionSnapshotCache.find(id).isEmpty());
+    }
+
+    private TransactionIngestionQueue getIngestionQueue(int capacity, int maxBatchSize) {
+        var ingestionQueue = new TransactionIngestionQueue(transactionBatchWriterMock, transactionSnapshotCache,
+                true, capacity, 0, maxBatchSize, 0, 2, 0, CommitDurability.RELAXED, 60, 100);
+        ReflectionTestUtils.setField(ingestionQueue, "running", true);
+
+        return ingestionQueue;
+    }
+
+    private TransactionEntity getNewEntity() {
+        var entity = TransactionFixtures.getTransactionEntity();
+        entity.setId(null);
+        return entity;
+    }
+}